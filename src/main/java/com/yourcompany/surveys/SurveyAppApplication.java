@@ -1,17 +1,25 @@
 package com.yourcompany.surveys;
 
+import com.yourcompany.surveys.config.DataMigration;
 import com.yourcompany.surveys.entity.Role;
+import com.yourcompany.surveys.repository.QuestionOptionTallyRepository;
 import com.yourcompany.surveys.repository.RoleRepository;
+import com.yourcompany.surveys.repository.SurveyRatingHistogramRepository;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing
 @EnableAsync
+@EnableScheduling
+@EnableCaching
 public class SurveyAppApplication {
 
 	public static void main(String[] args) {
@@ -28,4 +36,37 @@ public class SurveyAppApplication {
 			}
 		};
 	}
+
+	@Bean
+	public DataMigration alignIdSequences (JdbcTemplate jdbcTemplate) {
+		return new DataMigration("001-align-id-sequences", () -> {
+			jdbcTemplate.update("UPDATE answers_seq SET next_val = GREATEST(next_val, " +
+					"(SELECT COALESCE(MAX(id), 0) + 51 FROM answers))");
+			jdbcTemplate.update("UPDATE participations_seq SET next_val = GREATEST(next_val, " +
+					"(SELECT COALESCE(MAX(id), 0) + 51 FROM participations))");
+		});
+	}
+
+	@Bean
+	public DataMigration backfillRatingSums (JdbcTemplate jdbcTemplate) {
+		return new DataMigration("002-backfill-rating-sums", () -> jdbcTemplate.update(
+				"UPDATE surveys s SET " +
+						"s.rating_sum = (SELECT COALESCE(SUM(r.rating), 0) FROM ratings r WHERE r.survey_id = s.id), " +
+						"s.rating_count = (SELECT COUNT(*) FROM ratings r WHERE r.survey_id = s.id)"
+		));
+	}
+
+	@Bean
+	public DataMigration rebuildRatingHistograms (JdbcTemplate jdbcTemplate, SurveyRatingHistogramRepository histogramRepository) {
+		return new DataMigration("003-rebuild-rating-histograms", () -> jdbcTemplate
+				.queryForList("SELECT DISTINCT survey_id FROM ratings", Long.class)
+				.forEach(histogramRepository::rebuildForSurvey));
+	}
+
+	@Bean
+	public DataMigration rebuildAnswerTallies (JdbcTemplate jdbcTemplate, QuestionOptionTallyRepository tallyRepository) {
+		return new DataMigration("004-rebuild-answer-tallies", () -> jdbcTemplate
+				.queryForList("SELECT DISTINCT survey_id FROM questions WHERE type = 'OPCION_UNICA'", Long.class)
+				.forEach(tallyRepository::rebuildForSurvey));
+	}
 }
@@ -0,0 +1,8 @@
+package com.yourcompany.surveys.config;
+
+/**
+ * One-off data fix applied by {@link DataMigrationRunner} exactly once per database. Migrations run in
+ * ascending {@code id} order, so ids are prefixed with a sequence number.
+ */
+public record DataMigration(String id, Runnable action) {
+}
@@ -0,0 +1,103 @@
+package com.yourcompany.surveys.config;
+
+import com.yourcompany.surveys.entity.AppliedMigration;
+import com.yourcompany.surveys.repository.AppliedMigrationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Applies pending {@link DataMigration}s once the schema is up to date but before the web server and the
+ * scheduled tasks start, holding a MySQL named lock so that only one instance migrates at a time.
+ */
+@Slf4j
+@Component
+public class DataMigrationRunner implements SmartInitializingSingleton {
+    private static final String LOCK_NAME = "survey-app.data-migrations";
+
+    private final List<DataMigration> migrations;
+    private final AppliedMigrationRepository appliedMigrationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration lockTimeout;
+
+    public DataMigrationRunner(
+            List<DataMigration> migrations,
+            AppliedMigrationRepository appliedMigrationRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${application.migrations.lock-timeout}") Duration lockTimeout
+    ) {
+        this.migrations = migrations.stream().sorted(Comparator.comparing(DataMigration::id)).toList();
+        this.appliedMigrationRepository = appliedMigrationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lockTimeout = lockTimeout;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (pendingMigrations().isEmpty()) {
+            return;
+        }
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            acquireLock(connection);
+            try {
+                pendingMigrations().forEach(this::apply);
+            } finally {
+                releaseLock(connection);
+            }
+            return null;
+        });
+    }
+
+    private List<DataMigration> pendingMigrations() {
+        return migrations.stream()
+                .filter(migration -> !appliedMigrationRepository.existsById(migration.id()))
+                .toList();
+    }
+
+    private void apply(DataMigration migration) {
+        log.info("Aplicando migración de datos {}", migration.id());
+        transactionTemplate.executeWithoutResult(status -> {
+            migration.action().run();
+            appliedMigrationRepository.save(AppliedMigration.builder()
+                    .id(migration.id())
+                    .appliedAt(LocalDateTime.now())
+                    .build());
+        });
+    }
+
+    private void acquireLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            statement.setString(1, LOCK_NAME);
+            statement.setLong(2, lockTimeout.toSeconds());
+            try (ResultSet result = statement.executeQuery()) {
+                if (!result.next() || result.getInt(1) != 1) {
+                    throw new IllegalStateException("No se pudo obtener el bloqueo de migraciones " + LOCK_NAME);
+                }
+            }
+        }
+    }
+
+    private void releaseLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            statement.setString(1, LOCK_NAME);
+            statement.executeQuery().close();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.yourcompany.surveys.controller;
+
+import com.yourcompany.surveys.service.LocalImageStore;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+@RestController
+@RequestMapping("/images/files")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "application.images.store", havingValue = "local")
+@Tag(name = "Images")
+public class LocalImageController {
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final Map<String, MediaType> MEDIA_TYPES = Map.of(
+            "jpg", MediaType.IMAGE_JPEG,
+            "jpeg", MediaType.IMAGE_JPEG,
+            "png", MediaType.IMAGE_PNG,
+            "webp", MediaType.parseMediaType("image/webp")
+    );
+
+    private final LocalImageStore localImageStore;
+
+    @GetMapping("/{hash}/{fileName:.+}")
+    public void getImage(
+            @PathVariable String hash,
+            @PathVariable String fileName,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        String extension = StringUtils.getFilenameExtension(fileName);
+        MediaType mediaType = extension != null ? MEDIA_TYPES.get(extension.toLowerCase()) : null;
+        Path original = localImageStore.resolveOriginal(hash)
+                .filter(file -> mediaType != null)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Imagen no encontrada."));
+        writeImage(original, "\"" + hash + "\"", mediaType, request, response);
+    }
+
+    @GetMapping("/{hash}/thumbnails/{width}")
+    public void getThumbnail(
+            @PathVariable String hash,
+            @PathVariable int width,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        Path thumbnail = localImageStore.resolveThumbnail(hash, width)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Miniatura no encontrada."));
+        writeImage(thumbnail, "\"" + hash + "_" + width + "\"", MediaType.IMAGE_JPEG, request, response);
+    }
+
+    private void writeImage(
+            Path file,
+            String etag,
+            MediaType mediaType,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader("Content-Security-Policy", "default-src 'none'; sandbox");
+        response.setHeader(HttpHeaders.ETAG, etag);
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            response.setContentType(mediaType.toString());
+            response.setContentLengthLong(size);
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.yourcompany.surveys.controller;
 
+import com.yourcompany.surveys.dto.report.ReportJobResponse;
 import com.yourcompany.surveys.service.ExcelReportService;
+import com.yourcompany.surveys.service.ReportJobService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.security.Principal;
 import java.util.Optional;
@@ -16,17 +20,38 @@ import java.util.Optional;
 @Tag(name = "Reports")
 public class ReportController {
     private final ExcelReportService excelService;
+    private final ReportJobService reportJobService;
 
     @GetMapping("/{reportId}/{surveyId}")
-    public ResponseEntity<byte[]> getReportBySurvey(@PathVariable Long reportId, @PathVariable Long surveyId, Principal principal) {
+    public ResponseEntity<StreamingResponseBody> getReportBySurvey(@PathVariable Long reportId, @PathVariable Long surveyId, Principal principal) {
         return excelService.generateReport(reportId, Optional.of(surveyId), principal);
     }
 
     @GetMapping("/{reportId}")
-    public ResponseEntity<byte[]> getReportWithoutSurvey(@PathVariable Long reportId, Principal principal) {
+    public ResponseEntity<StreamingResponseBody> getReportWithoutSurvey(@PathVariable Long reportId, Principal principal) {
         return excelService.generateReport(reportId, Optional.empty(), principal);
     }
 
+    @PostMapping("/jobs")
+    public ResponseEntity<ReportJobResponse> submitReportJob(
+            @RequestParam Long reportId,
+            @RequestParam(required = false) Long surveyId,
+            Principal principal
+    ) {
+        ReportJobResponse job = reportJobService.submit(reportId, Optional.ofNullable(surveyId), principal);
+        return ResponseEntity.accepted().body(job);
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<ReportJobResponse> getReportJob(@PathVariable String jobId, Principal principal) {
+        return ResponseEntity.ok(reportJobService.getStatus(jobId, principal));
+    }
+
+    @GetMapping("/jobs/{jobId}/download")
+    public ResponseEntity<Resource> downloadReportJob(@PathVariable String jobId, Principal principal) {
+        return reportJobService.download(jobId, principal);
+    }
+
     @ExceptionHandler(ResponseStatusException.class)
     public ResponseEntity<String> handleResponseStatusException(ResponseStatusException ex) {
         return ResponseEntity
@@ -1,18 +1,23 @@
 package com.yourcompany.surveys.controller;
 
+import com.yourcompany.surveys.dto.answer.OptionTallyResponse;
 import com.yourcompany.surveys.dto.participation.ParticipationResponse;
 import com.yourcompany.surveys.dto.survey.SurveyPagedResponse;
 import com.yourcompany.surveys.dto.survey.SurveyRequestDTO;
 import com.yourcompany.surveys.dto.survey.SurveyResponse;
 import com.yourcompany.surveys.dto.survey.SurveySubmissionResponse;
+import com.yourcompany.surveys.service.AnswerTallyService;
+import com.yourcompany.surveys.service.SurveyResultsHub;
 import com.yourcompany.surveys.service.SurveyService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.security.Principal;
 import java.util.List;
@@ -23,13 +28,19 @@ import java.util.List;
 @Tag(name = "Surveys")
 public class SurveyController {
     private final SurveyService surveyService;
+    private final AnswerTallyService answerTallyService;
+    private final SurveyResultsHub surveyResultsHub;
 
     @GetMapping
     public ResponseEntity<SurveyPagedResponse> getAllSurveys(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "8") int size
+            @RequestParam(defaultValue = "8") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean withTotal
     ) {
-        SurveyPagedResponse response = surveyService.getAllSurveys(page, size);
+        SurveyPagedResponse response = cursor != null
+                ? surveyService.getAllSurveysByCursor(cursor, size, withTotal)
+                : surveyService.getAllSurveys(page, size);
         if (response == null) {
             return ResponseEntity.noContent().build();
         }
@@ -54,6 +65,16 @@ public class SurveyController {
         return new ResponseEntity<>(survey, HttpStatus.OK);
     }
 
+    @GetMapping("/{id}/results")
+    public ResponseEntity<List<OptionTallyResponse>> getSurveyResults(@PathVariable Long id, Principal principal) {
+        return ResponseEntity.ok(answerTallyService.getResults(id, principal));
+    }
+
+    @GetMapping(value = "/{id}/results/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSurveyResults(@PathVariable Long id, Principal principal) {
+        return surveyResultsHub.subscribe(id, principal);
+    }
+
     @GetMapping("/user")
     public ResponseEntity<List<SurveyResponse>> getSurveysByUserForReport(Principal principal) {
         return ResponseEntity.ok(surveyService.getByUserForReport(principal));
@@ -63,9 +84,13 @@ public class SurveyController {
     public ResponseEntity<SurveyPagedResponse> getSurveysByUsernameWithPaging(
             @PathVariable String username,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "8") int size
+            @RequestParam(defaultValue = "8") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean withTotal
     ) {
-        SurveyPagedResponse response = surveyService.getByUsernameWithPaging(username, page, size);
+        SurveyPagedResponse response = cursor != null
+                ? surveyService.getByUsernameWithCursor(username, cursor, size, withTotal)
+                : surveyService.getByUsernameWithPaging(username, page, size);
         if (response == null) {
             return ResponseEntity.noContent().build();
         }
@@ -0,0 +1,13 @@
+package com.yourcompany.surveys.dto.answer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record AnswerSubmission(
+        String submissionKey,
+        Long userId,
+        Long surveyId,
+        LocalDateTime submittedAt,
+        List<AnswerRequestDTO> answers
+) {
+}
@@ -0,0 +1,10 @@
+package com.yourcompany.surveys.dto.answer;
+
+public record OptionTallyResponse(
+        Long questionId,
+        String questionText,
+        Long optionId,
+        String optionText,
+        Long count
+) {
+}
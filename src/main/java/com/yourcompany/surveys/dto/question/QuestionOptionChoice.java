@@ -0,0 +1,8 @@
+package com.yourcompany.surveys.dto.question;
+
+public record QuestionOptionChoice(
+        Long questionId,
+        Long optionId,
+        String text
+) {
+}
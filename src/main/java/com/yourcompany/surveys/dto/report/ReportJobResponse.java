@@ -0,0 +1,17 @@
+package com.yourcompany.surveys.dto.report;
+
+import com.yourcompany.surveys.entity.ReportJobStatus;
+
+import java.time.LocalDateTime;
+
+public record ReportJobResponse(
+        String jobId,
+        Long reportId,
+        Long surveyId,
+        ReportJobStatus status,
+        String fileName,
+        LocalDateTime createdAt,
+        LocalDateTime completedAt,
+        String error
+) {
+}
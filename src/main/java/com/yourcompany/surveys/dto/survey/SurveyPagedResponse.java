@@ -5,6 +5,7 @@ import java.util.List;
 public record SurveyPagedResponse (
         List<SurveyResponse> surveys,
         int page,
-        int totalPages
+        Integer totalPages,
+        String nextCursor
 ) {
 }
@@ -1,5 +1,7 @@
 package com.yourcompany.surveys.dto.survey;
 
+import java.time.LocalDateTime;
+
 public record SurveyResponse (
         Long id,
         String title,
@@ -9,6 +11,7 @@ public record SurveyResponse (
         String creatorProfilePicture,
         Double averageRating,
         Long ratingCount,
-        String pictureUrl
+        String pictureUrl,
+        LocalDateTime creationDate
 ) {
 }
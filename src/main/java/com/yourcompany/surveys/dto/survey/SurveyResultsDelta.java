@@ -0,0 +1,9 @@
+package com.yourcompany.surveys.dto.survey;
+
+import java.util.Map;
+
+public record SurveyResultsDelta(
+        Map<Long, Long> options,
+        Map<Long, Long> ratings
+) {
+}
@@ -12,7 +12,8 @@ import lombok.*;
 @Table(name = "answers")
 public class Answer {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "answers_seq")
+    @SequenceGenerator(name = "answers_seq", sequenceName = "answers_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
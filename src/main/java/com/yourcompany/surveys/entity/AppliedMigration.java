@@ -0,0 +1,22 @@
+package com.yourcompany.surveys.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "applied_migrations")
+public class AppliedMigration {
+    @Id
+    @Column(length = 100)
+    private String id;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime appliedAt;
+}
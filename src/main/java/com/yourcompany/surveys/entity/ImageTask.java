@@ -0,0 +1,46 @@
+package com.yourcompany.surveys.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(
+        name = "image_tasks",
+        indexes = {
+                @Index(name = "idx_image_tasks_next_attempt_at", columnList = "nextAttemptAt"),
+                @Index(name = "idx_image_tasks_survey_id", columnList = "surveyId")
+        }
+)
+public class ImageTask {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private ImageTaskType type;
+
+    private Long surveyId;
+    private String username;
+    private String stagedFile;
+    private String imageUrl;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,6 @@
+package com.yourcompany.surveys.entity;
+
+public enum ImageTaskType {
+    UPLOAD_SURVEY_PICTURE,
+    DELETE_IMAGE
+}
@@ -2,8 +2,6 @@ package com.yourcompany.surveys.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
-import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -15,10 +13,10 @@ import java.util.List;
 @NoArgsConstructor
 @Entity
 @Table(name = "participations")
-@EntityListeners(AuditingEntityListener.class)
 public class Participation {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "participations_seq")
+    @SequenceGenerator(name = "participations_seq", sequenceName = "participations_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -32,7 +30,16 @@ public class Participation {
     @OneToMany(mappedBy = "participation", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Answer> answers;
 
-    @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime participatedDate;
-}
\ No newline at end of file
+
+    @Column(unique = true, length = 36, updatable = false)
+    private String submissionKey;
+
+    @PrePersist
+    void onCreate() {
+        if (participatedDate == null) {
+            participatedDate = LocalDateTime.now();
+        }
+    }
+}
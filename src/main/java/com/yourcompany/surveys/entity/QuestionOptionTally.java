@@ -0,0 +1,39 @@
+package com.yourcompany.surveys.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@IdClass(QuestionOptionTally.Key.class)
+@Table(
+        name = "question_option_tallies",
+        indexes = @Index(name = "idx_question_option_tallies_survey_id", columnList = "surveyId")
+)
+public class QuestionOptionTally {
+    @Id
+    private Long questionId;
+
+    @Id
+    private Long optionId;
+
+    @Column(nullable = false)
+    private Long surveyId;
+
+    @Column(nullable = false)
+    private Long answerCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long questionId;
+        private Long optionId;
+    }
+}
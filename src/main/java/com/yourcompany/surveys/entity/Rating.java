@@ -14,7 +14,10 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "ratings")
+@Table(
+        name = "ratings",
+        uniqueConstraints = @UniqueConstraint(name = "uk_ratings_survey_user", columnNames = {"survey_id", "user_id"})
+)
 public class Rating {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,8 @@
+package com.yourcompany.surveys.entity;
+
+public enum ReportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
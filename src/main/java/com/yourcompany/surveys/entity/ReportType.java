@@ -0,0 +1,33 @@
+package com.yourcompany.surveys.entity;
+
+import lombok.Getter;
+
+@Getter
+public enum ReportType {
+    SURVEY_ANSWERS(1, "survey_answers_report.xlsx", true),
+    USER_PARTICIPATION(2, "user_participation_report.xlsx", false),
+    RESPONSE_TRENDS(3, "response_trends_report.xlsx", true),
+    POPULAR_SURVEYS(4, "popular_surveys_report.xlsx", false),
+    PARTICIPATION_COUNT(5, "user_survey_participation_count_report.xlsx", false),
+    USER_SATISFACTION(6, "user_satisfaction_report.xlsx", false),
+    USER_REVIEWS(7, "user_reviews_report.xlsx", true);
+
+    private final int id;
+    private final String fileName;
+    private final boolean surveyRequired;
+
+    ReportType(int id, String fileName, boolean surveyRequired) {
+        this.id = id;
+        this.fileName = fileName;
+        this.surveyRequired = surveyRequired;
+    }
+
+    public static ReportType fromId(Long id) {
+        for (ReportType type : ReportType.values()) {
+            if (type.id == id) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Invalid report ID");
+    }
+}
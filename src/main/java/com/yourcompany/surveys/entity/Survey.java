@@ -2,6 +2,7 @@ package com.yourcompany.surveys.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Formula;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -15,7 +16,13 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "surveys")
+@Table(
+        name = "surveys",
+        indexes = {
+                @Index(name = "idx_surveys_creation_date_id", columnList = "creationDate, id"),
+                @Index(name = "idx_surveys_creator_creation_date_id", columnList = "creator_id, creationDate, id")
+        }
+)
 @EntityListeners(AuditingEntityListener.class)
 public class Survey {
     @Id
@@ -30,11 +37,15 @@ public class Survey {
 
     private String pictureUrl;
 
-    @Column(nullable = false, insertable = false, columnDefinition = "double(5,1) default 0.0")
+    @Formula("CASE WHEN rating_count = 0 THEN 0.0 ELSE ROUND(rating_sum / rating_count, 1) END")
     @Builder.Default
     private Double averageRating = 0.0;
 
-    @Column(nullable = false, insertable = false, columnDefinition = "bigint default 0")
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "double default 0")
+    @Builder.Default
+    private Double ratingSum = 0.0;
+
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "bigint default 0")
     @Builder.Default
     private Long ratingCount = 0L;
 
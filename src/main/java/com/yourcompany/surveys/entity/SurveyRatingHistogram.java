@@ -0,0 +1,33 @@
+package com.yourcompany.surveys.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@IdClass(SurveyRatingHistogram.Key.class)
+@Table(name = "survey_rating_histogram")
+public class SurveyRatingHistogram {
+    @Id
+    private Long surveyId;
+
+    @Id
+    private Long stars;
+
+    @Column(nullable = false)
+    private Long ratingCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long surveyId;
+        private Long stars;
+    }
+}
@@ -22,6 +22,7 @@ public enum BusinessErrorCodes {
     IMAGE_SIZE_EXCEEDED (309, BAD_REQUEST, "El tamaño de la imagen excede el límite permitido"),
     INVALID_IMAGE_URL (310, BAD_REQUEST, "URL de imagen inválida"),
     INVALID_IMAGE_FORMAT (311, BAD_REQUEST, "Formato de imagen inválido"),
+    INVALID_SUBMISSION (314, BAD_REQUEST, "Envío de respuestas inválido"),
     USER_UNAUTHORIZED(401, UNAUTHORIZED, "No tienes permiso para realizar esta acción")
     ;
     private final int code;
@@ -113,6 +113,19 @@ public class GlobalExceptionHandler {
                 );
     }
 
+    @ExceptionHandler(InvalidSubmissionException.class)
+    public ResponseEntity<ExceptionResponse> handleInvalidSubmissionException (InvalidSubmissionException e) {
+        return ResponseEntity
+                .status(INVALID_SUBMISSION.getHttpStatus())
+                .body(
+                        ExceptionResponse.builder()
+                                .businessErrorCode(INVALID_SUBMISSION.getCode())
+                                .businessErrorDescription(INVALID_SUBMISSION.getDescription())
+                                .error(e.getMessage())
+                                .build()
+                );
+    }
+
     @ExceptionHandler(UserNotFoundException.class)
     public ResponseEntity<ExceptionResponse> handleUserNotFoundException (UserNotFoundException e) {
         return ResponseEntity
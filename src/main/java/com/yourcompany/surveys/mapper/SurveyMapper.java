@@ -1,5 +1,6 @@
 package com.yourcompany.surveys.mapper;
 
+import com.yourcompany.surveys.dto.survey.SurveyCursor;
 import com.yourcompany.surveys.dto.survey.SurveyPagedResponse;
 import com.yourcompany.surveys.dto.survey.SurveyRequestDTO;
 import com.yourcompany.surveys.dto.survey.SurveyResponse;
@@ -9,6 +10,7 @@ import com.yourcompany.surveys.entity.Survey;
 import com.yourcompany.surveys.entity.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 import java.util.stream.Collectors;
@@ -46,17 +48,34 @@ public class SurveyMapper {
                 survey.getCreator().getProfilePictureUrl(),
                 survey.getAverageRating(),
                 survey.getRatingCount(),
-                survey.getPictureUrl()
+                survey.getPictureUrl(),
+                survey.getCreationDate()
         );
     }
 
-    public SurveyPagedResponse toPagedResponse(Page<Survey> surveys) {
+    public SurveyPagedResponse toPagedResponse(Page<SurveyResponse> surveys) {
         return new SurveyPagedResponse(
-                surveys.stream()
-                        .map(this::toResponse)
-                        .toList(),
+                surveys.getContent(),
                 surveys.getNumber(),
-                surveys.getTotalPages()
+                surveys.getTotalPages(),
+                null
+        );
+    }
+
+    public SurveyPagedResponse toKeysetPagedResponse(Slice<SurveyResponse> surveys, Long totalElements) {
+        String nextCursor = null;
+        if (surveys.hasNext()) {
+            SurveyResponse last = surveys.getContent().get(surveys.getNumberOfElements() - 1);
+            nextCursor = SurveyCursor.encode(last.creationDate(), last.id());
+        }
+        Integer totalPages = totalElements == null
+                ? null
+                : (int) Math.ceil((double) totalElements / surveys.getSize());
+        return new SurveyPagedResponse(
+                surveys.getContent(),
+                0,
+                totalPages,
+                nextCursor
         );
     }
 
@@ -3,15 +3,25 @@ package com.yourcompany.surveys.repository;
 import com.yourcompany.surveys.dto.report.ResponseTrendReportResponse;
 import com.yourcompany.surveys.dto.report.SurveyReportResponse;
 import com.yourcompany.surveys.entity.Answer;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface AnswerRepository extends JpaRepository<Answer, Long> {
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
     @Query("SELECT new com.yourcompany.surveys.dto.report.SurveyReportResponse(" +
             "q.id, q.text, a.id, a.answerText, u.id, u.username) " +
             "FROM Answer a " +
@@ -22,7 +32,7 @@ public interface AnswerRepository extends JpaRepository<Answer, Long> {
             "AND s.creator.id = :creatorId " +
             "ORDER BY u.id, q.id "
     )
-    List<SurveyReportResponse> findByAnswerBySurveyIdAndCreatorId(@Param("surveyId") Long surveyId, @Param("creatorId") Long creatorId);
+    Stream<SurveyReportResponse> streamByAnswerBySurveyIdAndCreatorId(@Param("surveyId") Long surveyId, @Param("creatorId") Long creatorId);
 
     @Query("SELECT new com.yourcompany.surveys.dto.report.ResponseTrendReportResponse(" +
             "q.id, q.text, a.answerText, COUNT(a.id)) " +
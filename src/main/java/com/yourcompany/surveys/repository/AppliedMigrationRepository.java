@@ -0,0 +1,7 @@
+package com.yourcompany.surveys.repository;
+
+import com.yourcompany.surveys.entity.AppliedMigration;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AppliedMigrationRepository extends JpaRepository<AppliedMigration, String> {
+}
@@ -0,0 +1,44 @@
+package com.yourcompany.surveys.repository;
+
+import com.yourcompany.surveys.entity.ImageTask;
+import com.yourcompany.surveys.entity.ImageTaskType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ImageTaskRepository extends JpaRepository<ImageTask, Long> {
+    @Query("SELECT t.id FROM ImageTask t WHERE t.nextAttemptAt <= :now ORDER BY t.nextAttemptAt")
+    List<Long> findDueTaskIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    List<ImageTask> findBySurveyIdAndType(Long surveyId, ImageTaskType type);
+
+    @Query("SELECT t.stagedFile FROM ImageTask t WHERE t.stagedFile IS NOT NULL")
+    List<String> findStagedFiles();
+
+    @Query("SELECT t.imageUrl FROM ImageTask t WHERE t.imageUrl IS NOT NULL")
+    List<String> findImageUrls();
+
+    @Query("SELECT t.imageUrl FROM ImageTask t WHERE t.type = :type AND t.imageUrl IS NOT NULL")
+    List<String> findImageUrlsByType(@Param("type") ImageTaskType type);
+
+    @Modifying
+    @Query("UPDATE ImageTask t SET t.nextAttemptAt = :leaseUntil WHERE t.id = :id AND t.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("UPDATE ImageTask t SET t.imageUrl = :imageUrl WHERE t.id = :id")
+    int recordUploadedUrl(@Param("id") Long id, @Param("imageUrl") String imageUrl);
+
+    @Modifying
+    @Query("UPDATE ImageTask t SET t.attempts = t.attempts + 1, t.nextAttemptAt = :nextAttemptAt, t.lastError = :lastError WHERE t.id = :id")
+    int recordFailure(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError);
+
+    @Modifying
+    @Query("DELETE FROM ImageTask t WHERE t.id = :id")
+    int deleteTask(@Param("id") Long id);
+}
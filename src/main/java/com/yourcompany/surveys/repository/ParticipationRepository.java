@@ -2,19 +2,33 @@ package com.yourcompany.surveys.repository;
 
 import com.yourcompany.surveys.dto.participation.ParticipationResponse;
 import com.yourcompany.surveys.entity.Participation;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface ParticipationRepository extends JpaRepository<Participation, Long> {
     List<Participation> findBySurveyId(Long surveyId);
 
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
     @Query("SELECT new com.yourcompany.surveys.dto.participation.ParticipationResponse(" +
             "p.id, p.user.id, p.user.username, p.user.profilePictureUrl, p.survey.id, p.survey.title, p.participatedDate) " +
             "FROM Participation p WHERE p.user.id = :userId")
-    List<ParticipationResponse> findAllUserParticipationsByUserId(@Param("userId") Long userId);
+    Stream<ParticipationResponse> streamAllUserParticipationsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT p.submissionKey FROM Participation p WHERE p.submissionKey IN :submissionKeys")
+    List<String> findExistingSubmissionKeys(@Param("submissionKeys") Collection<String> submissionKeys);
 }
@@ -0,0 +1,71 @@
+package com.yourcompany.surveys.repository;
+
+import com.yourcompany.surveys.dto.answer.OptionTallyResponse;
+import com.yourcompany.surveys.dto.question.QuestionOptionChoice;
+import com.yourcompany.surveys.entity.QuestionOptionTally;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface QuestionOptionTallyRepository extends JpaRepository<QuestionOptionTally, QuestionOptionTally.Key> {
+
+    @Query("SELECT new com.yourcompany.surveys.dto.question.QuestionOptionChoice(q.id, o.id, o.text) " +
+            "FROM QuestionOption o " +
+            "JOIN o.question q " +
+            "WHERE q.id IN :questionIds " +
+            "AND q.type = com.yourcompany.surveys.entity.QuestionType.OPCION_UNICA " +
+            "ORDER BY o.id"
+    )
+    List<QuestionOptionChoice> findSingleChoiceOptions(@Param("questionIds") Collection<Long> questionIds);
+
+    @Query("SELECT new com.yourcompany.surveys.dto.answer.OptionTallyResponse(" +
+            "q.id, q.text, o.id, o.text, COALESCE(t.answerCount, 0L)) " +
+            "FROM QuestionOption o " +
+            "JOIN o.question q " +
+            "LEFT JOIN QuestionOptionTally t ON t.questionId = q.id AND t.optionId = o.id " +
+            "WHERE q.survey.id = :surveyId " +
+            "AND q.type = com.yourcompany.surveys.entity.QuestionType.OPCION_UNICA " +
+            "ORDER BY q.id, o.id"
+    )
+    List<OptionTallyResponse> findResultsBySurveyId(@Param("surveyId") Long surveyId);
+
+    @Modifying
+    @Query(value = "INSERT INTO question_option_tallies (question_id, option_id, survey_id, answer_count) " +
+            "VALUES (:questionId, :optionId, :surveyId, :delta) " +
+            "ON DUPLICATE KEY UPDATE answer_count = answer_count + :delta",
+            nativeQuery = true
+    )
+    int incrementTally(
+            @Param("questionId") Long questionId,
+            @Param("optionId") Long optionId,
+            @Param("surveyId") Long surveyId,
+            @Param("delta") long delta
+    );
+
+    @Modifying
+    @Query("DELETE FROM QuestionOptionTally t WHERE t.surveyId = :surveyId")
+    int deleteBySurveyId(@Param("surveyId") Long surveyId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO question_option_tallies (question_id, option_id, survey_id, answer_count) " +
+            "SELECT * FROM (" +
+            "SELECT o.question_id, o.id AS option_id, q.survey_id, COUNT(a.id) AS answer_count " +
+            "FROM question_options o " +
+            "JOIN questions q ON q.id = o.question_id " +
+            "LEFT JOIN answers a ON a.question_id = o.question_id AND a.answer_text = o.text " +
+            "WHERE q.survey_id = :surveyId AND q.type = 'OPCION_UNICA' " +
+            "GROUP BY o.question_id, o.id, q.survey_id" +
+            ") AS counted " +
+            "ON DUPLICATE KEY UPDATE answer_count = counted.answer_count",
+            nativeQuery = true
+    )
+    int rebuildForSurvey(@Param("surveyId") Long surveyId);
+}
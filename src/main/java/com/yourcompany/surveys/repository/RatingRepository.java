@@ -1,23 +1,13 @@
 package com.yourcompany.surveys.repository;
 
-import com.yourcompany.surveys.dto.rating.RatingGroupResponse;
 import com.yourcompany.surveys.entity.Rating;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-
 @Repository
 public interface RatingRepository extends JpaRepository<Rating, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
     Rating findBySurveyIdAndUserId(Long survey_id, Long user_id);
-
-    @Query("SELECT new com.yourcompany.surveys.dto.rating.RatingGroupResponse(CAST(FLOOR(r.rating) AS long), COUNT(r.id)) " +
-            "FROM Rating r " +
-            "JOIN r.survey s " +
-            "WHERE s.id = :surveyId " +
-            "GROUP BY CAST(FLOOR(r.rating) AS long)"
-    )
-    List<RatingGroupResponse> getRatingsGroupedByRate(@Param("surveyId") Long surveyId);
 }
@@ -0,0 +1,48 @@
+package com.yourcompany.surveys.repository;
+
+import com.yourcompany.surveys.dto.rating.RatingGroupResponse;
+import com.yourcompany.surveys.entity.SurveyRatingHistogram;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SurveyRatingHistogramRepository extends JpaRepository<SurveyRatingHistogram, SurveyRatingHistogram.Key> {
+
+    @Query("SELECT new com.yourcompany.surveys.dto.rating.RatingGroupResponse(h.stars, h.ratingCount) " +
+            "FROM SurveyRatingHistogram h " +
+            "WHERE h.surveyId = :surveyId"
+    )
+    List<RatingGroupResponse> findBySurveyId(@Param("surveyId") Long surveyId);
+
+    @Modifying
+    @Query(value = "INSERT INTO survey_rating_histogram (survey_id, stars, rating_count) " +
+            "VALUES (:surveyId, :stars, :delta) " +
+            "ON DUPLICATE KEY UPDATE rating_count = rating_count + :delta",
+            nativeQuery = true
+    )
+    int incrementBucket(@Param("surveyId") Long surveyId, @Param("stars") long stars, @Param("delta") long delta);
+
+    @Modifying
+    @Query("DELETE FROM SurveyRatingHistogram h WHERE h.surveyId = :surveyId")
+    int deleteBySurveyId(@Param("surveyId") Long surveyId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO survey_rating_histogram (survey_id, stars, rating_count) " +
+            "SELECT * FROM (" +
+            "SELECT :surveyId AS survey_id, b.stars, COUNT(r.id) AS rating_count " +
+            "FROM (SELECT 1 AS stars UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5) b " +
+            "LEFT JOIN ratings r ON r.survey_id = :surveyId AND FLOOR(r.rating) = b.stars " +
+            "GROUP BY b.stars" +
+            ") AS counted " +
+            "ON DUPLICATE KEY UPDATE rating_count = counted.rating_count",
+            nativeQuery = true
+    )
+    int rebuildForSurvey(@Param("surveyId") Long surveyId);
+}
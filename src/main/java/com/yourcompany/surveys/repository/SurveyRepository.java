@@ -3,24 +3,123 @@ package com.yourcompany.surveys.repository;
 import com.yourcompany.surveys.dto.report.PopularSurveyReportResponse;
 import com.yourcompany.surveys.dto.report.UserSatisfactionReportResponse;
 import com.yourcompany.surveys.dto.report.UserSurveyParticipationCountResponse;
+import com.yourcompany.surveys.dto.survey.SurveyResponse;
 import com.yourcompany.surveys.entity.Survey;
 import com.yourcompany.surveys.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SurveyRepository extends JpaRepository<Survey, Long> {
     Survey findByIdAndCreator(Long id, User creator);
+    boolean existsByIdAndCreator(Long id, User creator);
     List<Survey> findByCreator(User creator);
     Page<Survey> findByCreatorUsername(String username, Pageable pageable);
     Page<Survey> findAll(Pageable pageable);
 
+    @Modifying
+    @Query(value = "UPDATE surveys SET rating_sum = rating_sum + :ratingDelta, rating_count = rating_count + :countDelta " +
+            "WHERE id = :surveyId",
+            nativeQuery = true
+    )
+    int incrementRating(
+            @Param("surveyId") Long surveyId,
+            @Param("ratingDelta") double ratingDelta,
+            @Param("countDelta") long countDelta
+    );
+
+    @Query("SELECT s.pictureUrl FROM Survey s WHERE s.pictureUrl IS NOT NULL")
+    List<String> findAllPictureUrls();
+
+    @EntityGraph(attributePaths = {"creator", "questions"})
+    Optional<Survey> findWithQuestionsById(Long id);
+
+    @EntityGraph(attributePaths = {"creator", "questions"})
+    Survey findWithQuestionsByIdAndCreator(Long id, User creator);
+
+    @Query(value = "SELECT new com.yourcompany.surveys.dto.survey.SurveyResponse(" +
+            "s.id, s.title, s.description, CONCAT(c.firstName, ' ', c.lastName), c.username, c.profilePictureUrl, " +
+            "s.averageRating, s.ratingCount, s.pictureUrl, s.creationDate) " +
+            "FROM Survey s " +
+            "JOIN s.creator c",
+            countQuery = "SELECT COUNT(s) FROM Survey s"
+    )
+    Page<SurveyResponse> findAllSurveyResponses(Pageable pageable);
+
+    @Query(value = "SELECT new com.yourcompany.surveys.dto.survey.SurveyResponse(" +
+            "s.id, s.title, s.description, CONCAT(c.firstName, ' ', c.lastName), c.username, c.profilePictureUrl, " +
+            "s.averageRating, s.ratingCount, s.pictureUrl, s.creationDate) " +
+            "FROM Survey s " +
+            "JOIN s.creator c " +
+            "WHERE c.username = :username",
+            countQuery = "SELECT COUNT(s) FROM Survey s WHERE s.creator.username = :username"
+    )
+    Page<SurveyResponse> findSurveyResponsesByCreatorUsername(@Param("username") String username, Pageable pageable);
+
+    long countByCreatorUsername(String username);
+
+    @Query("SELECT new com.yourcompany.surveys.dto.survey.SurveyResponse(" +
+            "s.id, s.title, s.description, CONCAT(c.firstName, ' ', c.lastName), c.username, c.profilePictureUrl, " +
+            "s.averageRating, s.ratingCount, s.pictureUrl, s.creationDate) " +
+            "FROM Survey s " +
+            "JOIN s.creator c " +
+            "ORDER BY s.creationDate DESC, s.id DESC"
+    )
+    Slice<SurveyResponse> findFirstSurveyResponses(Pageable pageable);
+
+    @Query("SELECT new com.yourcompany.surveys.dto.survey.SurveyResponse(" +
+            "s.id, s.title, s.description, CONCAT(c.firstName, ' ', c.lastName), c.username, c.profilePictureUrl, " +
+            "s.averageRating, s.ratingCount, s.pictureUrl, s.creationDate) " +
+            "FROM Survey s " +
+            "JOIN s.creator c " +
+            "WHERE s.creationDate < :creationDate " +
+            "OR (s.creationDate = :creationDate AND s.id < :id) " +
+            "ORDER BY s.creationDate DESC, s.id DESC"
+    )
+    Slice<SurveyResponse> findSurveyResponsesBefore(
+            @Param("creationDate") LocalDateTime creationDate,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query("SELECT new com.yourcompany.surveys.dto.survey.SurveyResponse(" +
+            "s.id, s.title, s.description, CONCAT(c.firstName, ' ', c.lastName), c.username, c.profilePictureUrl, " +
+            "s.averageRating, s.ratingCount, s.pictureUrl, s.creationDate) " +
+            "FROM Survey s " +
+            "JOIN s.creator c " +
+            "WHERE c.username = :username " +
+            "ORDER BY s.creationDate DESC, s.id DESC"
+    )
+    Slice<SurveyResponse> findFirstSurveyResponsesByCreatorUsername(@Param("username") String username, Pageable pageable);
+
+    @Query("SELECT new com.yourcompany.surveys.dto.survey.SurveyResponse(" +
+            "s.id, s.title, s.description, CONCAT(c.firstName, ' ', c.lastName), c.username, c.profilePictureUrl, " +
+            "s.averageRating, s.ratingCount, s.pictureUrl, s.creationDate) " +
+            "FROM Survey s " +
+            "JOIN s.creator c " +
+            "WHERE c.username = :username " +
+            "AND (s.creationDate < :creationDate " +
+            "OR (s.creationDate = :creationDate AND s.id < :id)) " +
+            "ORDER BY s.creationDate DESC, s.id DESC"
+    )
+    Slice<SurveyResponse> findSurveyResponsesByCreatorUsernameBefore(
+            @Param("username") String username,
+            @Param("creationDate") LocalDateTime creationDate,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
     @Query("SELECT new com.yourcompany.surveys.dto.report.PopularSurveyReportResponse(" +
             "s.id, s.title, COUNT(p.id)) " +
             "FROM Survey s " +
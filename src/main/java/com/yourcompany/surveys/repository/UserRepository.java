@@ -2,10 +2,20 @@ package com.yourcompany.surveys.repository;
 
 import com.yourcompany.surveys.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long>{
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
+
+    @Query("SELECT u.profilePictureUrl FROM User u WHERE u.profilePictureUrl IS NOT NULL")
+    List<String> findAllProfilePictureUrls();
+
+    @Query("SELECT CASE WHEN u.enabled = true AND u.accountLocked = false THEN true ELSE false END " +
+            "FROM User u WHERE u.email = :email")
+    Optional<Boolean> isActiveByEmail(@Param("email") String email);
 }
@@ -0,0 +1,38 @@
+package com.yourcompany.surveys.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yourcompany.surveys.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class AccountStatusCache {
+    private final UserRepository userRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final Cache<String, Boolean> activeAccounts;
+
+    public AccountStatusCache(
+            UserRepository userRepository,
+            VerifiedTokenCache verifiedTokenCache,
+            @Value("${application.security.jwt.account-status-ttl}") Duration ttl
+    ) {
+        this.userRepository = userRepository;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.activeAccounts = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public boolean isActive(String email) {
+        return activeAccounts.get(email, key -> userRepository.isActiveByEmail(key).orElse(false));
+    }
+
+    public void evict(String email) {
+        activeAccounts.invalidate(email);
+        verifiedTokenCache.evictUser(email);
+    }
+}
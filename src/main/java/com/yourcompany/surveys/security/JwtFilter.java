@@ -1,12 +1,17 @@
 package com.yourcompany.surveys.security;
 
+import com.yourcompany.surveys.entity.Role;
+import com.yourcompany.surveys.entity.User;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -15,6 +20,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 
@@ -24,7 +30,11 @@ public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final AccountStatusCache accountStatusCache;
+    private final VerifiedTokenCache verifiedTokenCache;
 
+    @Value("${application.security.jwt.stateless}")
+    private boolean stateless;
 
     @Override
     protected void doFilterInternal(
@@ -38,28 +48,71 @@ public class JwtFilter extends OncePerRequestFilter {
         }
         final String authHeader = request.getHeader(AUTHORIZATION);
         final String jwt;
+        final Claims claims;
         final String userEmail;
         if(authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
         jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            Authentication verified = verifiedTokenCache.get(jwt);
+            if (verified != null) {
+                authenticate(request, verified.getPrincipal(), verified);
+                filterChain.doFilter(request, response);
+                return;
+            }
+        }
+        claims = jwtService.extractAllClaims(jwt);
+        userEmail = claims.getSubject();
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
-            if (jwtService.isTokenValid(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails,
-                                null,
-                                userDetails.getAuthorities()
-                        );
-                authToken.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
+            UserDetails userDetails = stateless ? userFromClaims(claims) : null;
+            if (userDetails == null) {
+                userDetails = userDetailsService.loadUserByUsername(userEmail);
+            }
+            if (jwtService.isTokenValid(claims, userDetails) && userDetails.isEnabled() && userDetails.isAccountNonLocked()) {
+                Authentication verified = new UsernamePasswordAuthenticationToken(
+                        userDetails,
+                        null,
+                        userDetails.getAuthorities()
                 );
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+                verifiedTokenCache.put(jwt, verified, claims.getExpiration().toInstant());
+                authenticate(request, userDetails, verified);
             }
         }
         filterChain.doFilter(request, response);
     }
+
+    private void authenticate(HttpServletRequest request, Object principal, Authentication verified) {
+        UsernamePasswordAuthenticationToken authToken =
+                new UsernamePasswordAuthenticationToken(
+                        principal,
+                        null,
+                        verified.getAuthorities()
+                );
+        authToken.setDetails(
+                new WebAuthenticationDetailsSource().buildDetails(request)
+        );
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
+
+    private User userFromClaims(Claims claims) {
+        Number userId = claims.get("userId", Number.class);
+        String username = claims.get("username", String.class);
+        List<?> authorities = claims.get("authorities", List.class);
+        if (userId == null || username == null || authorities == null) {
+            return null;
+        }
+        boolean active = accountStatusCache.isActive(claims.getSubject());
+        return User.builder()
+                .id(userId.longValue())
+                .email(claims.getSubject())
+                .username(username)
+                .enabled(active)
+                .accountLocked(!active)
+                .roles(authorities.stream()
+                        .map(authority -> Role.builder().name(authority.toString()).build())
+                        .toList())
+                .build();
+    }
 }
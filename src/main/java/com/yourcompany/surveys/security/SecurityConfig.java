@@ -1,8 +1,10 @@
 package com.yourcompany.surveys.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -42,6 +44,8 @@ public class SecurityConfig {
                                         "/webjars/**",
                                         "/swagger-ui.html"
                                 ).permitAll()
+                                .requestMatchers(HttpMethod.GET, "/images/files/**").permitAll()
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                                 .anyRequest()
                                 .authenticated()
                 )
@@ -0,0 +1,89 @@
+package com.yourcompany.surveys.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+@Component
+public class VerifiedTokenCache {
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final Counter invalidations;
+
+    public VerifiedTokenCache(
+            MeterRegistry meterRegistry,
+            @Value("${application.security.jwt.token-cache.max-size}") long maxSize,
+            @Value("${application.security.jwt.token-cache.ttl}") Duration ttl
+    ) {
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(ttl))
+                .recordStats()
+                .build();
+        this.invalidations = Counter.builder("security.jwt.token-cache.invalidations")
+                .description("Tokens verificados descartados por cambios en la cuenta")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verifiedTokens");
+    }
+
+    public Authentication get(String token) {
+        VerifiedToken verifiedToken = verifiedTokens.getIfPresent(digest(token));
+        return verifiedToken == null ? null : verifiedToken.authentication();
+    }
+
+    public void put(String token, Authentication authentication, Instant expiresAt) {
+        verifiedTokens.put(digest(token), new VerifiedToken(authentication, expiresAt));
+    }
+
+    public void evictUser(String email) {
+        verifiedTokens.asMap().entrySet().removeIf(entry -> {
+            boolean matches = entry.getValue().authentication().getName().equals(email);
+            if (matches) {
+                invalidations.increment();
+            }
+            return matches;
+        });
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(Authentication authentication, Instant expiresAt) {
+    }
+
+    private record TokenExpiry(Duration ttl) implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long untilExpiration = Duration.between(Instant.now(), value.expiresAt()).toNanos();
+            return Math.max(0, Math.min(untilExpiration, ttl.toNanos()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
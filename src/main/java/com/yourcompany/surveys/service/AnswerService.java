@@ -2,21 +2,31 @@ package com.yourcompany.surveys.service;
 
 import com.yourcompany.surveys.dto.answer.AnswerRequestDTO;
 import com.yourcompany.surveys.dto.answer.AnswerResponse;
+import com.yourcompany.surveys.dto.answer.AnswerSubmission;
+import com.yourcompany.surveys.dto.question.QuestionResponse;
 import com.yourcompany.surveys.entity.Answer;
 import com.yourcompany.surveys.entity.Participation;
 import com.yourcompany.surveys.entity.Survey;
 import com.yourcompany.surveys.entity.User;
+import com.yourcompany.surveys.handler.exception.InvalidSubmissionException;
 import com.yourcompany.surveys.handler.exception.UserNotFoundException;
 import com.yourcompany.surveys.mapper.AnswerMapper;
 import com.yourcompany.surveys.repository.AnswerRepository;
 import com.yourcompany.surveys.repository.ParticipationRepository;
 import com.yourcompany.surveys.repository.UserRepository;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.security.Principal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +35,11 @@ public class AnswerService {
     private final AnswerMapper answerMapper;
     private final UserRepository userRepository;
     private final ParticipationRepository participationRepository;
+    private final SubmissionBufferService submissionBufferService;
+    private final AnswerTallyService answerTallyService;
+    private final SurveyService surveyService;
+    private final UserService userService;
+    private final PlatformTransactionManager transactionManager;
 
     public List<AnswerResponse> findAll() {
         List<Answer> answers = answerRepository.findAll();
@@ -39,36 +54,91 @@ public class AnswerService {
     }
 
     public void save(List<AnswerRequestDTO> answers, Principal principal) {
-        String email = principal.getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("Usuario no  encontrado con email: " + email));
+        validateSubmission(answers);
+        Long userId = userService.getUserIdFromPrincipal(principal);
 
+        if (submissionBufferService.isEnabled() && bufferSubmission(answers, userId)) {
+            return;
+        }
+
+        User user = User.builder().id(userId).build();
         Survey survey = Survey.builder().id(answers.get(0).surveyId()).build();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Participation participation = Participation.builder()
+                    .user(user)
+                    .survey(survey)
+                    .build();
+            participationRepository.save(participation);
 
-        Participation participation = Participation.builder()
-                .user(user)
-                .survey(survey)
-                .build();
-        participationRepository.save(participation);
+            List<Answer> newAnswers = answers.stream()
+                    .map(a -> {
+                        Answer newAnswer = answerMapper.toEntity(a, user);
+                        newAnswer.setParticipation(participation);
+                        return newAnswer;
+                    })
+                    .toList();
+            answerRepository.saveAll(newAnswers);
+            answerTallyService.countAnswers(newAnswers);
+        });
+    }
 
+    private void validateSubmission(List<AnswerRequestDTO> answers) {
+        if (answers == null || answers.isEmpty()) {
+            throw new InvalidSubmissionException("El envío no contiene respuestas");
+        }
+        Long surveyId = answers.get(0).surveyId();
+        if (surveyId == null) {
+            throw new InvalidSubmissionException("El envío no indica la encuesta");
+        }
+        Set<Long> questionIds = surveyService.findByIdForSubmission(surveyId).questions().stream()
+                .map(QuestionResponse::id)
+                .collect(Collectors.toSet());
         for (AnswerRequestDTO a : answers) {
-            Answer newAnswer = answerMapper.toEntity(a, user);
-            newAnswer.setParticipation(participation);
-            answerRepository.save(newAnswer);
+            if (!surveyId.equals(a.surveyId()) || !questionIds.contains(a.questionId()) || a.answerText() == null) {
+                throw new InvalidSubmissionException("Respuesta inválida para la encuesta: " + surveyId);
+            }
         }
     }
 
+    private boolean bufferSubmission(List<AnswerRequestDTO> answers, Long userId) {
+        Long surveyId = answers.get(0).surveyId();
+        AnswerSubmission submission = new AnswerSubmission(
+                UUID.randomUUID().toString(),
+                userId,
+                surveyId,
+                LocalDateTime.now(),
+                answers.stream()
+                        .map(a -> new AnswerRequestDTO(null, a.surveyId(), a.questionId(), a.answerText()))
+                        .toList()
+        );
+        return submissionBufferService.append(submission);
+    }
+
+    @Transactional
     public AnswerResponse update(Long id, AnswerRequestDTO answer, Principal principal) {
         String email = principal.getName();
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("Usuario no  encontrado con email: " + email));
+        Optional<Answer> previous = answerRepository.findById(id)
+                .map(existing -> Answer.builder()
+                        .question(existing.getQuestion())
+                        .survey(existing.getSurvey())
+                        .answerText(existing.getAnswerText())
+                        .build());
         Answer answerEntity = answerMapper.toEntity(answer, user);
         answerEntity.setId(id);
         answerRepository.save(answerEntity);
+        if (previous.isPresent()) {
+            answerTallyService.replaceAnswer(previous.get(), answerEntity);
+        } else {
+            answerTallyService.countAnswers(List.of(answerEntity));
+        }
         return answerMapper.toResponse(answerEntity);
     }
 
+    @Transactional
     public void delete(Long id) {
+        answerRepository.findById(id).ifPresent(answerTallyService::uncountAnswer);
         answerRepository.deleteById(id);
     }
 
@@ -0,0 +1,108 @@
+package com.yourcompany.surveys.service;
+
+import com.yourcompany.surveys.dto.answer.OptionTallyResponse;
+import com.yourcompany.surveys.dto.question.QuestionOptionChoice;
+import com.yourcompany.surveys.entity.Answer;
+import com.yourcompany.surveys.entity.User;
+import com.yourcompany.surveys.handler.exception.SurveyNotFoundException;
+import com.yourcompany.surveys.repository.QuestionOptionTallyRepository;
+import com.yourcompany.surveys.repository.SurveyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.security.Principal;
+import java.util.*;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class AnswerTallyService {
+    private static final Comparator<TallyKey> KEY_ORDER =
+            Comparator.comparing(TallyKey::questionId).thenComparing(TallyKey::optionId);
+
+    private final QuestionOptionTallyRepository tallyRepository;
+    private final SurveyRepository surveyRepository;
+    private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void countAnswers(Collection<Answer> answers) {
+        applyDeltas(answers, List.of());
+    }
+
+    public void replaceAnswer(Answer previous, Answer updated) {
+        applyDeltas(List.of(updated), List.of(previous));
+    }
+
+    public void uncountAnswer(Answer answer) {
+        applyDeltas(List.of(), List.of(answer));
+    }
+
+    public List<OptionTallyResponse> getResults(Long surveyId, Principal principal) {
+        User user = userService.getUserFromPrincipal(principal);
+        if (!surveyRepository.existsByIdAndCreator(surveyId, user)) {
+            throw new SurveyNotFoundException("No se encontró la encuesta.");
+        }
+        return tallyRepository.findResultsBySurveyId(surveyId);
+    }
+
+    private void applyDeltas(Collection<Answer> added, Collection<Answer> removed) {
+        Set<Long> questionIds = new HashSet<>();
+        Stream.concat(added.stream(), removed.stream())
+                .filter(this::isCountable)
+                .forEach(answer -> questionIds.add(answer.getQuestion().getId()));
+        if (questionIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Map<String, Long>> optionIdsByQuestion = new HashMap<>();
+        for (QuestionOptionChoice choice : tallyRepository.findSingleChoiceOptions(questionIds)) {
+            optionIdsByQuestion.computeIfAbsent(choice.questionId(), id -> new HashMap<>())
+                    .putIfAbsent(choice.text(), choice.optionId());
+        }
+        if (optionIdsByQuestion.isEmpty()) {
+            return;
+        }
+
+        Map<TallyKey, Long> deltas = new TreeMap<>(KEY_ORDER);
+        collectDeltas(deltas, optionIdsByQuestion, added, 1);
+        collectDeltas(deltas, optionIdsByQuestion, removed, -1);
+        Map<Long, Map<Long, Long>> optionDeltasBySurvey = new HashMap<>();
+        deltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                tallyRepository.incrementTally(key.questionId(), key.optionId(), key.surveyId(), delta);
+                optionDeltasBySurvey.computeIfAbsent(key.surveyId(), id -> new HashMap<>())
+                        .merge(key.optionId(), delta, Long::sum);
+            }
+        });
+        optionDeltasBySurvey.forEach((surveyId, optionDeltas) ->
+                eventPublisher.publishEvent(new SurveyResultsHub.ResultsChanged(surveyId, optionDeltas, Map.of())));
+    }
+
+    private void collectDeltas(
+            Map<TallyKey, Long> deltas,
+            Map<Long, Map<String, Long>> optionIdsByQuestion,
+            Collection<Answer> answers,
+            long delta
+    ) {
+        for (Answer answer : answers) {
+            if (!isCountable(answer)) {
+                continue;
+            }
+            Long questionId = answer.getQuestion().getId();
+            Long optionId = optionIdsByQuestion.getOrDefault(questionId, Map.of()).get(answer.getAnswerText());
+            if (optionId != null) {
+                deltas.merge(new TallyKey(questionId, optionId, answer.getSurvey().getId()), delta, Long::sum);
+            }
+        }
+    }
+
+    private boolean isCountable(Answer answer) {
+        return answer.getQuestion() != null && answer.getQuestion().getId() != null
+                && answer.getSurvey() != null && answer.getSurvey().getId() != null
+                && answer.getAnswerText() != null;
+    }
+
+    private record TallyKey(Long questionId, Long optionId, Long surveyId) {
+    }
+}
@@ -11,6 +11,7 @@ import com.yourcompany.surveys.mapper.UserMapper;
 import com.yourcompany.surveys.repository.RoleRepository;
 import com.yourcompany.surveys.repository.TokenRepository;
 import com.yourcompany.surveys.repository.UserRepository;
+import com.yourcompany.surveys.security.AccountStatusCache;
 import com.yourcompany.surveys.security.JwtService;
 import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
@@ -40,6 +41,7 @@ public class AuthenticationService {
     private final JwtService jwtService;
     private final UserMapper userMapper;
     private final UserImageService userImageService;
+    private final AccountStatusCache accountStatusCache;
 
     @Value ("${application.security.jwt.mailing.front-end.activation-url}")
     private String activationUrl;
@@ -128,6 +130,8 @@ public class AuthenticationService {
 
         var claims = new HashMap<String, Object>();
         claims.put("fullName", user.getFullName());
+        claims.put("userId", user.getId());
+        claims.put("username", user.getName());
         var jwtToken = jwtService.generateToken(claims, user);
         return AuthenticationResponse.builder()
                 .token(jwtToken)
@@ -146,6 +150,7 @@ public class AuthenticationService {
                 .orElseThrow(() -> new UsernameNotFoundException("Usuario no encontrado"));
         user.setEnabled(true);
         userRepository.save(user);
+        accountStatusCache.evict(user.getEmail());
         savedToken.setValidatedAt(LocalDateTime.now());
         tokenRepository.save(savedToken);
     }
@@ -1,31 +1,127 @@
 package com.yourcompany.surveys.service;
 
 import com.yourcompany.surveys.entity.EmailTemplateName;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 
 import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
-import java.util.Map;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class EmailService {
     private final JavaMailSender mailSender;
     private final SpringTemplateEngine templateEngine;
+    private final ThreadPoolExecutor executor;
+    private final DelayQueue<OutgoingMail> outbox = new DelayQueue<>();
+    private final Semaphore outboxSlots;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+
+    private final Timer sendTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter failureCounter;
+    private final Counter retryCounter;
+    private final Counter rejectionCounter;
+    private final Counter overflowCounter;
 
     @Value("${spring.mail.username}")
     private String emailFrom;
 
-    @Async
+    public EmailService(
+            JavaMailSender mailSender,
+            SpringTemplateEngine templateEngine,
+            MeterRegistry meterRegistry,
+            @Value("${application.mail.executor.pool-size}") int poolSize,
+            @Value("${application.mail.executor.queue-capacity}") int queueCapacity,
+            @Value("${application.mail.executor.max-attempts}") int maxAttempts,
+            @Value("${application.mail.executor.initial-backoff}") Duration initialBackoff,
+            @Value("${application.mail.outbox.capacity}") int outboxCapacity,
+            @Value("${application.mail.outbox.batch-size}") int batchSize,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.mailSender = mailSender;
+        this.templateEngine = templateEngine;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.outboxSlots = new Semaphore(outboxCapacity);
+        this.batchSize = batchSize;
+
+        this.sendTimer = Timer.builder("mail.send")
+                .description("Duración del envío SMTP de un lote de correos")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("mail.send.batch.size")
+                .description("Correos enviados por conexión SMTP")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("mail.send.failures")
+                .description("Correos descartados tras agotar los reintentos")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("mail.send.retries")
+                .register(meterRegistry);
+        this.rejectionCounter = Counter.builder("mail.executor.rejections")
+                .description("Correos compuestos en el hilo llamante por cola llena")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("mail.outbox.rejections")
+                .description("Correos descartados por bandeja de salida llena")
+                .register(meterRegistry);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = virtualThreads
+                ? new VirtualThreadTaskExecutor("mail-").getVirtualThreadFactory()
+                : runnable -> {
+                    Thread thread = new Thread(runnable, "mail-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                };
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory,
+                (runnable, pool) -> {
+                    rejectionCounter.increment();
+                    if (!pool.isShutdown()) {
+                        runnable.run();
+                    }
+                }
+        );
+        Gauge.builder("mail.executor.queue.size", executor, pool -> pool.getQueue().size())
+                .description("Correos pendientes de componer")
+                .register(meterRegistry);
+        Gauge.builder("mail.executor.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        Gauge.builder("mail.outbox.size", outbox, DelayQueue::size)
+                .description("Correos compuestos pendientes de envío")
+                .register(meterRegistry);
+    }
+
     public void sendEmail(
             String to,
             String username,
@@ -33,6 +129,59 @@ public class EmailService {
             String confirmationUrl,
             String activationCode,
             String subject
+    ) {
+        executor.execute(() -> {
+            try {
+                deliver(to, username, emailTemplate, confirmationUrl, activationCode, subject);
+            } catch (MessagingException e) {
+                failureCounter.increment();
+                log.error("No se pudo componer el correo {} para {}", emailTemplate, to, e);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpTemplates() {
+        for (EmailTemplateName emailTemplate : EmailTemplateName.values()) {
+            templateEngine.process(emailTemplate.getName(), new Context());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${application.mail.outbox.flush-interval}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<OutgoingMail> batch = new ArrayList<>(batchSize);
+            int drained;
+            while ((drained = outbox.drainTo(batch, batchSize)) > 0) {
+                outboxSlots.release(drained);
+                sendBatch(batch);
+                batch.clear();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Quedaron {} correos sin componer al detener la aplicación", executor.shutdownNow().size());
+        }
+        flush();
+        if (!outbox.isEmpty()) {
+            log.warn("Quedaron {} correos pendientes de reintento al detener la aplicación", outbox.size());
+        }
+    }
+
+    private void deliver(
+            String to,
+            String username,
+            EmailTemplateName emailTemplate,
+            String confirmationUrl,
+            String activationCode,
+            String subject
     ) throws MessagingException {
         String templateName = emailTemplate.getName();
         MimeMessage mimeMessage = mailSender.createMimeMessage();
@@ -55,6 +204,59 @@ public class EmailService {
 
         String template = templateEngine.process(templateName, context);
         helper.setText(template, true);
-        mailSender.send(mimeMessage);
+
+        offer(new OutgoingMail(mimeMessage, to, 1, 0));
+    }
+
+    /**
+     * Queues the mail for the next flush; when the outbox is full the mail is discarded, for first attempts and
+     * retries alike, so that SMTP is only ever spoken by the scheduled flush.
+     */
+    private void offer(OutgoingMail mail) {
+        if (outboxSlots.tryAcquire()) {
+            outbox.add(mail);
+            return;
+        }
+        overflowCounter.increment();
+        log.error("Bandeja de salida llena, se descarta el correo para {} (intento {})", mail.to(), mail.attempt());
+    }
+
+    private void sendBatch(List<OutgoingMail> batch) {
+        batchSizeSummary.record(batch.size());
+        try {
+            sendTimer.record(() -> mailSender.send(batch.stream().map(OutgoingMail::message).toArray(MimeMessage[]::new)));
+        } catch (MailSendException e) {
+            Set<Object> failedMessages = Collections.newSetFromMap(new IdentityHashMap<>());
+            failedMessages.addAll(e.getFailedMessages().keySet());
+            batch.stream()
+                    .filter(mail -> failedMessages.isEmpty() || failedMessages.contains(mail.message()))
+                    .forEach(mail -> retryOrDiscard(mail, e));
+        } catch (MailException e) {
+            batch.forEach(mail -> retryOrDiscard(mail, e));
+        }
+    }
+
+    private void retryOrDiscard(OutgoingMail mail, MailException cause) {
+        if (mail.attempt() >= maxAttempts) {
+            failureCounter.increment();
+            log.error("Correo para {} descartado tras {} intentos", mail.to(), mail.attempt(), cause);
+            return;
+        }
+        long backoff = initialBackoff.toMillis() << (mail.attempt() - 1);
+        retryCounter.increment();
+        log.warn("Fallo al enviar el correo para {} (intento {}), reintentando en {} ms", mail.to(), mail.attempt(), backoff);
+        offer(new OutgoingMail(mail.message(), mail.to(), mail.attempt() + 1, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoff)));
+    }
+
+    private record OutgoingMail(MimeMessage message, String to, int attempt, long notBefore) implements Delayed {
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(notBefore - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
     }
 }
@@ -1,91 +1,58 @@
 package com.yourcompany.surveys.service;
 
-import com.yourcompany.surveys.handler.exception.ImageDeletionException;
 import com.yourcompany.surveys.handler.exception.ImageUploadException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.http.*;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.net.URI;
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class ImageService {
-
-    @Value("${imgur.url.upload}")
-    private String imgur_url;
-
-    @Value("${imgur.access_token}")
-    private String accessToken;
+    private final ImageStore imageStore;
 
     private static final long MAX_IMAGE_SIZE_MB = 5;
     private static final long MAX_IMAGE_SIZE_BYTES = MAX_IMAGE_SIZE_MB * 1024 * 1024;
+    private static final Map<String, String> EXTENSIONS_BY_TYPE = Map.of(
+            "image/jpeg", "jpg",
+            "image/png", "png",
+            "image/webp", "webp"
+    );
 
     public boolean deleteImage(String imageUrl) {
-        try {
-            String imageHash = getHashFromUrl(imageUrl);
-            String deleteUrl = imgur_url + "/" + imageHash;
-            HttpHeaders headers = createHeaders();
-            HttpEntity<String> request = new HttpEntity<>(headers);
-            RestTemplate restTemplate = new RestTemplate();
-            ResponseEntity<Map<String, Object>> response = restTemplate.exchange(deleteUrl, HttpMethod.DELETE, request, new ParameterizedTypeReference<>() {});
-            boolean isSuccessful = response.getStatusCode().is2xxSuccessful();
-            if (!isSuccessful) {
-                throw new ImageDeletionException("Error al eliminar la foto: " + response.getStatusCode());
-            }
-            return true;
-        } catch (ImageDeletionException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new ImageDeletionException("Error al eliminar la foto: " + e.getMessage(), e);
-        }
+        return imageStore.delete(imageUrl);
     }
 
-    private String getHashFromUrl(String imageUrl) {
-        URI uri = URI.create(imageUrl);
-        String path = uri.getPath();
-        int lastSlashIndex = path.lastIndexOf('/');
-        int dotIndex = path.lastIndexOf('.');
-        if (lastSlashIndex == -1 || dotIndex == -1 || dotIndex <= lastSlashIndex) {
-            throw new IllegalArgumentException("Invalid picture URL format");
-        }
-        return path.substring(lastSlashIndex + 1, dotIndex);
+    public List<String> listImages(Instant uploadedBefore) {
+        return imageStore.list(uploadedBefore);
     }
 
     public String uploadImage(MultipartFile image, String imageName) {
-        try {
-            validateImageType(image);
-            validateImageSize(image);
-            HttpHeaders headers = createHeaders();
-            MultiValueMap<String, Object> body = createRequestBody(image, imageName);
-            HttpEntity<MultiValueMap<String, Object>> request = new HttpEntity<>(body, headers);
-            return uploadImageToServer(request);
-        }
-        catch (IOException e) {
-            throw new ImageUploadException("Error al procesar la imagen: " + e.getMessage(), e);
-        } catch (RestClientException e) {
-            throw new ImageUploadException("Error al subir la imagen al servidor: " + e.getMessage(), e);
-        } catch (ImageUploadException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new ImageUploadException("Error inesperado: " + e.getMessage(), e);
-        }
+        validateImage(image);
+        return uploadImage(image.getResource(), imageName);
+    }
+
+    public String uploadImage(Resource image, String imageName) {
+        return imageStore.store(image, imageName);
+    }
+
+    public void validateImage(MultipartFile image) {
+        validateImageType(image);
+        validateImageSize(image);
+    }
+
+    public String fileExtension(MultipartFile image) {
+        validateImageType(image);
+        return EXTENSIONS_BY_TYPE.get(image.getContentType());
     }
 
     private void validateImageType(MultipartFile image) {
         String contentType = image.getContentType();
-        if (contentType == null ||
-                !(contentType.equals("image/jpeg") || contentType.equals("image/png") || contentType.equals("image/webp"))) {
+        if (contentType == null || !EXTENSIONS_BY_TYPE.containsKey(contentType)) {
             throw new ImageUploadException("El tipo de archivo no es válido. Solo se permiten archivos JPG, JPEG, PNG y WEBP.");
         }
     }
@@ -95,42 +62,4 @@ public class ImageService {
             throw new ImageUploadException("El tamaño de la imagen excede el límite de 5 MB.");
         }
     }
-
-    private HttpHeaders createHeaders() {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-        headers.set("Authorization", "Bearer " + accessToken);
-        return headers;
-    }
-
-    private MultiValueMap<String, Object> createRequestBody(MultipartFile image, String imageName) throws IOException {
-        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-        body.add("image", new ByteArrayResource(image.getBytes()) {
-            @Override
-            public String getFilename() {
-                return image.getOriginalFilename();
-            }
-        });
-        body.add("type", "file");
-        body.add("name", imageName);
-        body.add("title", imageName);
-        return body;
-    }
-
-    private String uploadImageToServer(HttpEntity<MultiValueMap<String, Object>> request) {
-        RestTemplate restTemplate = new RestTemplate();
-        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(imgur_url, HttpMethod.POST, request, new ParameterizedTypeReference<>() {});
-
-        Map<String, Object> responseData = response.getBody();
-        if (responseData != null) {
-            Object data = responseData.get("data");
-            if (data instanceof Map) {
-                Object imageLink = ((Map<?, ?>) data).get("link");
-                if (imageLink instanceof String) {
-                    return (String) imageLink;
-                }
-            }
-        }
-        throw new ImageUploadException("Error al subir la imagen al servidor o el enlace no es válido.");
-    }
-}
\ No newline at end of file
+}
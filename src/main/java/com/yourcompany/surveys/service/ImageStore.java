@@ -0,0 +1,14 @@
+package com.yourcompany.surveys.service;
+
+import org.springframework.core.io.Resource;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface ImageStore {
+    String store(Resource image, String imageName);
+
+    boolean delete(String imageUrl);
+
+    List<String> list(Instant uploadedBefore);
+}
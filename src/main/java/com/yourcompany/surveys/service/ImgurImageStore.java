@@ -0,0 +1,151 @@
+package com.yourcompany.surveys.service;
+
+import com.yourcompany.surveys.handler.exception.ImageDeletionException;
+import com.yourcompany.surveys.handler.exception.ImageUploadException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.Resource;
+import org.springframework.http.*;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.stereotype.Service;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "application.images.store", havingValue = "imgur", matchIfMissing = true)
+public class ImgurImageStore implements ImageStore {
+    private final RestClient imgurRestClient;
+
+    @Value("${imgur.url.upload}")
+    private String imgur_url;
+
+    @Value("${imgur.url.account-images}")
+    private String accountImagesUrl;
+
+    @Value("${imgur.access_token}")
+    private String accessToken;
+
+    @Override
+    public boolean delete(String imageUrl) {
+        try {
+            String imageHash = getHashFromUrl(imageUrl);
+            String deleteUrl = imgur_url + "/" + imageHash;
+            ResponseEntity<Void> response = imgurRestClient.delete()
+                    .uri(deleteUrl)
+                    .headers(headers -> headers.addAll(createHeaders()))
+                    .retrieve()
+                    .toBodilessEntity();
+            boolean isSuccessful = response.getStatusCode().is2xxSuccessful();
+            if (!isSuccessful) {
+                throw new ImageDeletionException("Error al eliminar la foto: " + response.getStatusCode());
+            }
+            return true;
+        } catch (HttpClientErrorException.NotFound e) {
+            return true;
+        } catch (ImageDeletionException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ImageDeletionException("Error al eliminar la foto: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<String> list(Instant uploadedBefore) {
+        List<String> imageUrls = new ArrayList<>();
+        for (int page = 0; ; page++) {
+            Map<String, Object> responseData = imgurRestClient.get()
+                    .uri(accountImagesUrl + "/" + page)
+                    .header("Authorization", "Bearer " + accessToken)
+                    .retrieve()
+                    .body(new ParameterizedTypeReference<>() {});
+            Object data = responseData != null ? responseData.get("data") : null;
+            if (!(data instanceof List<?> images) || images.isEmpty()) {
+                return imageUrls;
+            }
+            for (Object image : images) {
+                if (image instanceof Map<?, ?> fields
+                        && fields.get("link") instanceof String link
+                        && fields.get("datetime") instanceof Number datetime
+                        && Instant.ofEpochSecond(datetime.longValue()).isBefore(uploadedBefore)) {
+                    imageUrls.add(link);
+                }
+            }
+        }
+    }
+
+    private String getHashFromUrl(String imageUrl) {
+        URI uri = URI.create(imageUrl);
+        String path = uri.getPath();
+        int lastSlashIndex = path.lastIndexOf('/');
+        int dotIndex = path.lastIndexOf('.');
+        if (lastSlashIndex == -1 || dotIndex == -1 || dotIndex <= lastSlashIndex) {
+            throw new IllegalArgumentException("Invalid picture URL format");
+        }
+        return path.substring(lastSlashIndex + 1, dotIndex);
+    }
+
+    @Override
+    public String store(Resource image, String imageName) {
+        try {
+            MultiValueMap<String, Object> body = createRequestBody(image, imageName);
+            return uploadImageToServer(body);
+        }
+        catch (HttpMessageNotWritableException e) {
+            throw new ImageUploadException("Error al procesar la imagen: " + e.getMessage(), e);
+        } catch (RestClientException e) {
+            throw new ImageUploadException("Error al subir la imagen al servidor: " + e.getMessage(), e);
+        } catch (ImageUploadException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ImageUploadException("Error inesperado: " + e.getMessage(), e);
+        }
+    }
+
+    private HttpHeaders createHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        headers.set("Authorization", "Bearer " + accessToken);
+        return headers;
+    }
+
+    private MultiValueMap<String, Object> createRequestBody(Resource image, String imageName) {
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("image", image);
+        body.add("type", "file");
+        body.add("name", imageName);
+        body.add("title", imageName);
+        return body;
+    }
+
+    private String uploadImageToServer(MultiValueMap<String, Object> body) {
+        Map<String, Object> responseData = imgurRestClient.post()
+                .uri(imgur_url)
+                .headers(headers -> headers.addAll(createHeaders()))
+                .body(body)
+                .retrieve()
+                .body(new ParameterizedTypeReference<>() {});
+
+        if (responseData != null) {
+            Object data = responseData.get("data");
+            if (data instanceof Map) {
+                Object imageLink = ((Map<?, ?>) data).get("link");
+                if (imageLink instanceof String) {
+                    return (String) imageLink;
+                }
+            }
+        }
+        throw new ImageUploadException("Error al subir la imagen al servidor o el enlace no es válido.");
+    }
+}
\ No newline at end of file
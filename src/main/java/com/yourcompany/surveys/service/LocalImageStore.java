@@ -0,0 +1,320 @@
+package com.yourcompany.surveys.service;
+
+import com.yourcompany.surveys.entity.ImageTaskType;
+import com.yourcompany.surveys.handler.exception.ImageUploadException;
+import com.yourcompany.surveys.repository.ImageTaskRepository;
+import com.yourcompany.surveys.repository.SurveyRepository;
+import com.yourcompany.surveys.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "application.images.store", havingValue = "local")
+public class LocalImageStore implements ImageStore {
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final String THUMBNAIL_FORMAT = "jpg";
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+    private static final byte[] JPEG_SIGNATURE = {(byte) 0xff, (byte) 0xd8, (byte) 0xff};
+
+    private final SurveyRepository surveyRepository;
+    private final UserRepository userRepository;
+    private final ImageTaskRepository imageTaskRepository;
+    private final Path rootDirectory;
+    private final String publicBaseUrl;
+    private final List<Integer> thumbnailWidths;
+    private final Duration gcGracePeriod;
+    private final long maxPixels;
+    private final ThreadPoolExecutor thumbnailExecutor;
+
+    public LocalImageStore(
+            SurveyRepository surveyRepository,
+            UserRepository userRepository,
+            ImageTaskRepository imageTaskRepository,
+            @Value("${application.images.local.root-directory}") Path rootDirectory,
+            @Value("${application.images.local.public-base-url}") String publicBaseUrl,
+            @Value("${application.images.local.thumbnail-widths}") List<Integer> thumbnailWidths,
+            @Value("${application.images.local.thumbnail-pool-size}") int thumbnailPoolSize,
+            @Value("${application.images.local.thumbnail-queue-capacity}") int thumbnailQueueCapacity,
+            @Value("${application.images.local.gc-grace-period}") Duration gcGracePeriod,
+            @Value("${application.images.local.max-pixels}") long maxPixels
+    ) throws IOException {
+        this.surveyRepository = surveyRepository;
+        this.userRepository = userRepository;
+        this.imageTaskRepository = imageTaskRepository;
+        this.rootDirectory = Files.createDirectories(rootDirectory);
+        this.publicBaseUrl = StringUtils.trimTrailingCharacter(publicBaseUrl, '/');
+        this.thumbnailWidths = List.copyOf(thumbnailWidths);
+        this.gcGracePeriod = gcGracePeriod;
+        this.maxPixels = maxPixels;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.thumbnailExecutor = new ThreadPoolExecutor(
+                thumbnailPoolSize,
+                thumbnailPoolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(thumbnailQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-thumbnail-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> log.warn("Cola de miniaturas llena, se omite una imagen")
+        );
+    }
+
+    @Override
+    public String store(Resource image, String imageName) {
+        Path partial = null;
+        try {
+            partial = Files.createTempFile(rootDirectory, "upload-", ".part");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream inputStream = new DigestInputStream(image.getInputStream(), digest)) {
+                Files.copy(inputStream, partial, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String extension = detectFormat(partial);
+
+            Path original = originalPath(hash);
+            if (Files.exists(original)) {
+                Files.delete(partial);
+                Files.setLastModifiedTime(original, FileTime.from(Instant.now()));
+                if (thumbnailWidths.stream().anyMatch(width -> !Files.exists(thumbnailPath(hash, width)))) {
+                    thumbnailExecutor.execute(() -> createThumbnails(hash, original));
+                }
+            } else {
+                Files.move(partial, original, StandardCopyOption.ATOMIC_MOVE);
+                thumbnailExecutor.execute(() -> createThumbnails(hash, original));
+            }
+
+            return publicBaseUrl + "/" + hash + "/" + imageName + "." + extension;
+        } catch (ImageUploadException e) {
+            deleteQuietly(partial);
+            throw e;
+        } catch (IOException | NoSuchAlgorithmException e) {
+            deleteQuietly(partial);
+            throw new ImageUploadException("Error al guardar la imagen: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean delete(String imageUrl) {
+        return true;
+    }
+
+    @Override
+    public List<String> list(Instant uploadedBefore) {
+        // Unreferenced files are removed by collectUnreferencedImages.
+        return List.of();
+    }
+
+    public Optional<Path> resolveOriginal(String hash) {
+        return existing(HASH_PATTERN.matcher(hash).matches() ? originalPath(hash) : null);
+    }
+
+    public Optional<Path> resolveThumbnail(String hash, int width) {
+        boolean valid = HASH_PATTERN.matcher(hash).matches() && thumbnailWidths.contains(width);
+        return existing(valid ? thumbnailPath(hash, width) : null);
+    }
+
+    @Scheduled(fixedDelayString = "${application.images.local.gc-interval}")
+    public void collectUnreferencedImages() {
+        Set<String> referenced = new HashSet<>();
+        Stream.of(
+                surveyRepository.findAllPictureUrls(),
+                userRepository.findAllProfilePictureUrls(),
+                imageTaskRepository.findImageUrlsByType(ImageTaskType.UPLOAD_SURVEY_PICTURE)
+        ).flatMap(List::stream).map(this::hashFromUrl).filter(Objects::nonNull).forEach(referenced::add);
+
+        Instant threshold = Instant.now().minus(gcGracePeriod);
+        try (Stream<Path> files = Files.list(rootDirectory)) {
+            files.filter(file -> isOlderThan(file, threshold))
+                    .filter(file -> !referenced.contains(hashFromFileName(file)))
+                    .forEach(this::deleteQuietly);
+        } catch (IOException e) {
+            log.warn("No se pudo revisar el almacén de imágenes {}", rootDirectory, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        thumbnailExecutor.shutdownNow();
+    }
+
+    private String detectFormat(Path file) throws IOException {
+        byte[] header = new byte[12];
+        int length;
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            length = inputStream.readNBytes(header, 0, header.length);
+        }
+        String extension;
+        if (startsWith(header, length, PNG_SIGNATURE)) {
+            extension = "png";
+        } else if (startsWith(header, length, JPEG_SIGNATURE)) {
+            extension = "jpg";
+        } else if (length == 12 && startsWith(header, 4, "RIFF".getBytes())
+                && Arrays.equals(header, 8, 12, "WEBP".getBytes(), 0, 4)) {
+            extension = "webp";
+        } else {
+            throw new ImageUploadException("El contenido no es una imagen JPG, PNG o WEBP válida.");
+        }
+
+        ImageReader reader = openReader(file);
+        if (reader != null) {
+            try {
+                checkDimensions(reader);
+            } finally {
+                closeReader(reader);
+            }
+        }
+        return extension;
+    }
+
+    private boolean startsWith(byte[] header, int length, byte[] signature) {
+        return length >= signature.length && Arrays.equals(header, 0, signature.length, signature, 0, signature.length);
+    }
+
+    private ImageReader openReader(Path file) throws IOException {
+        ImageInputStream inputStream = ImageIO.createImageInputStream(file.toFile());
+        if (inputStream == null) {
+            return null;
+        }
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(inputStream);
+        if (!readers.hasNext()) {
+            inputStream.close();
+            return null;
+        }
+        ImageReader reader = readers.next();
+        reader.setInput(inputStream, true, true);
+        return reader;
+    }
+
+    private void checkDimensions(ImageReader reader) throws IOException {
+        long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+        if (pixels > maxPixels) {
+            throw new ImageUploadException("La imagen supera el límite de " + maxPixels + " píxeles.");
+        }
+    }
+
+    private void closeReader(ImageReader reader) {
+        try {
+            if (reader.getInput() instanceof ImageInputStream inputStream) {
+                inputStream.close();
+            }
+        } catch (IOException e) {
+            log.debug("No se pudo cerrar el lector de imagen", e);
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    private void createThumbnails(String hash, Path original) {
+        ImageReader reader = null;
+        try {
+            reader = openReader(original);
+            if (reader == null) {
+                log.debug("Formato sin lector disponible, no se generan miniaturas para {}", hash);
+                return;
+            }
+            checkDimensions(reader);
+            BufferedImage source = reader.read(0);
+            for (int width : thumbnailWidths) {
+                int targetWidth = Math.min(width, source.getWidth());
+                int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+                BufferedImage thumbnail = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+                Graphics2D graphics = thumbnail.createGraphics();
+                try {
+                    graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                    graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                    graphics.drawImage(source, 0, 0, targetWidth, targetHeight, Color.WHITE, null);
+                } finally {
+                    graphics.dispose();
+                }
+                Path partial = rootDirectory.resolve(hash + "_" + width + ".part");
+                ImageIO.write(thumbnail, THUMBNAIL_FORMAT, partial.toFile());
+                Files.move(partial, thumbnailPath(hash, width), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("No se pudieron generar las miniaturas de {}", hash, e);
+        } finally {
+            if (reader != null) {
+                closeReader(reader);
+            }
+        }
+    }
+
+    private Path originalPath(String hash) {
+        return rootDirectory.resolve(hash);
+    }
+
+    private Path thumbnailPath(String hash, int width) {
+        return rootDirectory.resolve(hash + "_" + width + "." + THUMBNAIL_FORMAT);
+    }
+
+    private Optional<Path> existing(Path path) {
+        return path != null && Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    private String hashFromUrl(String imageUrl) {
+        if (!imageUrl.startsWith(publicBaseUrl + "/")) {
+            return null;
+        }
+        String[] segments = URI.create(imageUrl).getPath().split("/");
+        return segments.length >= 2 ? segments[segments.length - 2] : null;
+    }
+
+    private String hashFromFileName(Path file) {
+        String fileName = file.getFileName().toString();
+        return fileName.length() >= 64 ? fileName.substring(0, 64) : fileName;
+    }
+
+    private boolean isOlderThan(Path file, Instant threshold) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(threshold);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("No se pudo eliminar la imagen {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.yourcompany.surveys.service;
+
+import com.yourcompany.surveys.dto.rating.RatingGroupResponse;
+import com.yourcompany.surveys.repository.SurveyRatingHistogramRepository;
+import com.yourcompany.surveys.repository.SurveyRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+public class RatingCounters {
+    private static final int MIN_STARS = 1;
+    private static final int MAX_STARS = 5;
+
+    private final SurveyRatingHistogramRepository histogramRepository;
+    private final SurveyRepository surveyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration idleTimeout;
+
+    private final Map<Long, SurveyRatingCounters> counters = new ConcurrentHashMap<>();
+
+    public RatingCounters(
+            SurveyRatingHistogramRepository histogramRepository,
+            SurveyRepository surveyRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${application.ratings.in-memory-counters.enabled}") boolean enabled,
+            @Value("${application.ratings.in-memory-counters.idle-timeout}") Duration idleTimeout
+    ) {
+        this.histogramRepository = histogramRepository;
+        this.surveyRepository = surveyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.idleTimeout = idleTimeout;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void ensureLoaded(Long surveyId) {
+        countersFor(surveyId);
+    }
+
+    public void recordAfterCommit(Long surveyId, Double previousRating, double newRating) {
+        SurveyRatingCounters surveyCounters = acquireForWrite(surveyId);
+        if (surveyCounters == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(surveyId, surveyCounters, previousRating, newRating);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                surveyCounters.inFlight.decrementAndGet();
+            }
+        });
+    }
+
+    public void discardAfterCommit(Long surveyId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            discard(surveyId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                discard(surveyId);
+            }
+        });
+    }
+
+    private void discard(Long surveyId) {
+        SurveyRatingCounters surveyCounters = counters.get(surveyId);
+        if (surveyCounters == null) {
+            return;
+        }
+        surveyCounters.lock.lock();
+        try {
+            surveyCounters.evicted = true;
+            counters.remove(surveyId, surveyCounters);
+        } finally {
+            surveyCounters.lock.unlock();
+        }
+    }
+
+    private void record(Long surveyId, SurveyRatingCounters surveyCounters, Double previousRating, double newRating) {
+        if (surveyCounters.evicted) {
+            surveyCounters = countersFor(surveyId);
+            if (surveyCounters == null) {
+                return;
+            }
+        }
+        surveyCounters.record(previousRating, newRating);
+    }
+
+    public List<RatingGroupResponse> getRatingsGroupedByRate(Long surveyId) {
+        SurveyRatingCounters surveyCounters = countersFor(surveyId);
+        if (surveyCounters == null) {
+            return List.of();
+        }
+        List<RatingGroupResponse> results = new ArrayList<>();
+        for (int stars = MIN_STARS; stars <= MAX_STARS; stars++) {
+            results.add(new RatingGroupResponse((long) stars, surveyCounters.stars[stars].sum()));
+        }
+        return results;
+    }
+
+    @Scheduled(fixedDelayString = "${application.ratings.in-memory-counters.flush-interval}")
+    public void flush() {
+        counters.forEach((surveyId, surveyCounters) -> {
+            flush(surveyId, surveyCounters);
+            evictIfIdle(surveyId, surveyCounters);
+        });
+    }
+
+    private void flush(Long surveyId, SurveyRatingCounters surveyCounters) {
+        double ratingDelta = surveyCounters.pendingSum.sumThenReset();
+        long countDelta = surveyCounters.pendingCount.sumThenReset();
+        long[] starDeltas = new long[MAX_STARS + 1];
+        boolean changed = ratingDelta != 0 || countDelta != 0;
+        for (int stars = MIN_STARS; stars <= MAX_STARS; stars++) {
+            starDeltas[stars] = surveyCounters.pendingStars[stars].sumThenReset();
+            changed |= starDeltas[stars] != 0;
+        }
+        if (!changed) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                surveyRepository.incrementRating(surveyId, ratingDelta, countDelta);
+                for (int stars = MIN_STARS; stars <= MAX_STARS; stars++) {
+                    if (starDeltas[stars] != 0) {
+                        histogramRepository.incrementBucket(surveyId, stars, starDeltas[stars]);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            if (surveyCounters.evicted) {
+                return;
+            }
+            log.warn("No se pudieron volcar las calificaciones de la encuesta {}, se reintentará", surveyId, e);
+            surveyCounters.pendingSum.add(ratingDelta);
+            surveyCounters.pendingCount.add(countDelta);
+            for (int stars = MIN_STARS; stars <= MAX_STARS; stars++) {
+                surveyCounters.pendingStars[stars].add(starDeltas[stars]);
+            }
+        }
+    }
+
+    private void evictIfIdle(Long surveyId, SurveyRatingCounters surveyCounters) {
+        if (System.nanoTime() - surveyCounters.lastAccess < idleTimeout.toNanos()) {
+            return;
+        }
+        surveyCounters.lock.lock();
+        try {
+            if (surveyCounters.inFlight.get() == 0 && !surveyCounters.hasPendingChanges()) {
+                surveyCounters.evicted = true;
+                counters.remove(surveyId, surveyCounters);
+            }
+        } finally {
+            surveyCounters.lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (enabled) {
+            flush();
+        }
+    }
+
+    private SurveyRatingCounters acquireForWrite(Long surveyId) {
+        while (true) {
+            SurveyRatingCounters surveyCounters = countersFor(surveyId);
+            if (surveyCounters == null) {
+                return null;
+            }
+            surveyCounters.lock.lock();
+            try {
+                if (!surveyCounters.evicted) {
+                    surveyCounters.inFlight.incrementAndGet();
+                    return surveyCounters;
+                }
+            } finally {
+                surveyCounters.lock.unlock();
+            }
+        }
+    }
+
+    private SurveyRatingCounters countersFor(Long surveyId) {
+        SurveyRatingCounters surveyCounters = counters.get(surveyId);
+        if (surveyCounters == null) {
+            if (!surveyRepository.existsById(surveyId)) {
+                return null;
+            }
+            surveyCounters = counters.computeIfAbsent(surveyId, id -> new SurveyRatingCounters());
+        }
+        surveyCounters.lastAccess = System.nanoTime();
+        if (!surveyCounters.loaded) {
+            surveyCounters.lock.lock();
+            try {
+                if (!surveyCounters.loaded) {
+                    for (RatingGroupResponse group : histogramRepository.findBySurveyId(surveyId)) {
+                        if (isValidStars(group.rating())) {
+                            surveyCounters.stars[group.rating().intValue()].add(group.count());
+                        }
+                    }
+                    surveyCounters.loaded = true;
+                }
+            } finally {
+                surveyCounters.lock.unlock();
+            }
+        }
+        return surveyCounters;
+    }
+
+    private static boolean isValidStars(long stars) {
+        return stars >= MIN_STARS && stars <= MAX_STARS;
+    }
+
+    private static class SurveyRatingCounters {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile boolean loaded;
+        private volatile boolean evicted;
+        private volatile long lastAccess = System.nanoTime();
+        private final LongAdder[] stars = new LongAdder[MAX_STARS + 1];
+        private final LongAdder[] pendingStars = new LongAdder[MAX_STARS + 1];
+        private final DoubleAdder pendingSum = new DoubleAdder();
+        private final LongAdder pendingCount = new LongAdder();
+
+        SurveyRatingCounters() {
+            for (int i = 0; i < stars.length; i++) {
+                stars[i] = new LongAdder();
+                pendingStars[i] = new LongAdder();
+            }
+        }
+
+        boolean hasPendingChanges() {
+            if (pendingSum.sum() != 0 || pendingCount.sum() != 0) {
+                return true;
+            }
+            for (LongAdder pending : pendingStars) {
+                if (pending.sum() != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void record(Double previousRating, double newRating) {
+            if (previousRating != null) {
+                adjustStars(previousRating, -1);
+                pendingSum.add(newRating - previousRating);
+            } else {
+                pendingSum.add(newRating);
+                pendingCount.increment();
+            }
+            adjustStars(newRating, 1);
+        }
+
+        private void adjustStars(double rating, int delta) {
+            long bucket = (long) Math.floor(rating);
+            if (isValidStars(bucket)) {
+                stars[(int) bucket].add(delta);
+                pendingStars[(int) bucket].add(delta);
+            }
+        }
+    }
+}
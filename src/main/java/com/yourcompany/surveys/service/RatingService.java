@@ -3,15 +3,17 @@ package com.yourcompany.surveys.service;
 import com.yourcompany.surveys.dto.rating.RatingGroupResponse;
 import com.yourcompany.surveys.dto.rating.RatingRequestDTO;
 import com.yourcompany.surveys.entity.Rating;
-import com.yourcompany.surveys.entity.Survey;
 import com.yourcompany.surveys.entity.User;
 import com.yourcompany.surveys.mapper.RatingMapper;
 import com.yourcompany.surveys.repository.RatingRepository;
+import com.yourcompany.surveys.repository.SurveyRatingHistogramRepository;
 import com.yourcompany.surveys.repository.SurveyRepository;
 import com.yourcompany.surveys.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.security.Principal;
@@ -19,6 +21,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 @Service
 @RequiredArgsConstructor
@@ -27,42 +30,74 @@ public class RatingService {
     private final RatingMapper ratingMapper;
     private final UserRepository userRepository;
     private final SurveyRepository surveyRepository;
+    private final SurveyRatingHistogramRepository histogramRepository;
+    private final RatingCounters ratingCounters;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
+    @CacheEvict(cacheNames = "surveySubmissions", key = "#ratingRequest.surveyId()")
     public Rating createOrUpdateRating(@Valid RatingRequestDTO ratingRequest, Principal principal) {
-        Survey survey = surveyRepository.findById(ratingRequest.surveyId())
-                .orElseThrow(() -> new IllegalArgumentException("Survey not found"));
+        if (!surveyRepository.existsById(ratingRequest.surveyId())) {
+            throw new IllegalArgumentException("Survey not found");
+        }
 
         String email = principal.getName();
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
+        if (ratingCounters.isEnabled()) {
+            ratingCounters.ensureLoaded(ratingRequest.surveyId());
+        }
+
         Rating existingRating = ratingRepository.findBySurveyIdAndUserId(ratingRequest.surveyId(), user.getId());
 
         if (existingRating != null) {
             Double previousRating = existingRating.getRating();
             existingRating.setRating(ratingRequest.rating());
-            survey.setAverageRating(
-                    (survey.getAverageRating() * survey.getRatingCount() - previousRating + ratingRequest.rating())
-                            / survey.getRatingCount()
-            );
-            ratingRepository.save(existingRating);
+            recordRating(ratingRequest.surveyId(), previousRating, ratingRequest.rating());
+            return ratingRepository.save(existingRating);
+        }
+
+        Rating rating = ratingMapper.toEntity(ratingRequest);
+        rating.setUser(user);
+        recordRating(ratingRequest.surveyId(), null, rating.getRating());
+        return ratingRepository.save(rating);
+    }
+
+    private void recordRating(Long surveyId, Double previousRating, double newRating) {
+        Map<Long, Long> starDeltas = new TreeMap<>();
+        if (previousRating != null) {
+            addStarDelta(starDeltas, previousRating, -1);
+        }
+        addStarDelta(starDeltas, newRating, 1);
+        starDeltas.values().removeIf(delta -> delta == 0);
+        if (!starDeltas.isEmpty()) {
+            eventPublisher.publishEvent(new SurveyResultsHub.ResultsChanged(surveyId, Map.of(), starDeltas));
+        }
+
+        if (ratingCounters.isEnabled()) {
+            ratingCounters.recordAfterCommit(surveyId, previousRating, newRating);
+            return;
+        }
+        if (previousRating != null) {
+            surveyRepository.incrementRating(surveyId, newRating - previousRating, 0);
         } else {
-            Rating rating = ratingMapper.toEntity(ratingRequest);
-            rating.setUser(user);
+            surveyRepository.incrementRating(surveyId, newRating, 1);
+        }
+        starDeltas.forEach((stars, delta) -> histogramRepository.incrementBucket(surveyId, stars, delta));
+    }
 
-            survey.setRatingCount(survey.getRatingCount() + 1);
-            survey.setAverageRating(
-                    ((survey.getAverageRating() * (survey.getRatingCount() - 1)) + rating.getRating()) / survey.getRatingCount()
-            );
-            return ratingRepository.save(rating);
+    private void addStarDelta(Map<Long, Long> starDeltas, double rating, long delta) {
+        long stars = (long) Math.floor(rating);
+        if (stars >= 1 && stars <= 5) {
+            starDeltas.merge(stars, delta, Long::sum);
         }
-        surveyRepository.save(survey);
-        return existingRating;
     }
 
     public List<RatingGroupResponse> getRatingsGroupedByRate(Long surveyId) {
-        List<RatingGroupResponse> results = ratingRepository.getRatingsGroupedByRate(surveyId);
+        List<RatingGroupResponse> results = ratingCounters.isEnabled()
+                ? ratingCounters.getRatingsGroupedByRate(surveyId)
+                : histogramRepository.findBySurveyId(surveyId);
 
         Map<Long, Long> ratingsMap = new HashMap<>();
         for (RatingGroupResponse response : results) {
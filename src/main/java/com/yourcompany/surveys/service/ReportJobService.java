@@ -0,0 +1,238 @@
+package com.yourcompany.surveys.service;
+
+import com.yourcompany.surveys.dto.report.ReportJobResponse;
+import com.yourcompany.surveys.entity.ReportJobStatus;
+import com.yourcompany.surveys.entity.ReportType;
+import com.yourcompany.surveys.entity.User;
+import com.yourcompany.surveys.handler.exception.UnauthorizedException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.Principal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class ReportJobService {
+    private final ExcelReportService excelReportService;
+    private final UserService userService;
+    private final ThreadPoolExecutor executor;
+    private final Path storageDirectory;
+    private final Duration artifactTtl;
+
+    private final Map<String, ReportJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, String> inFlightJobs = new ConcurrentHashMap<>();
+
+    public ReportJobService(
+            ExcelReportService excelReportService,
+            UserService userService,
+            @Value("${application.reports.jobs.pool-size}") int poolSize,
+            @Value("${application.reports.jobs.queue-capacity}") int queueCapacity,
+            @Value("${application.reports.jobs.storage-directory}") Path storageDirectory,
+            @Value("${application.reports.jobs.artifact-ttl}") Duration artifactTtl,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) throws IOException {
+        this.excelReportService = excelReportService;
+        this.userService = userService;
+        this.storageDirectory = Files.createDirectories(storageDirectory);
+        this.artifactTtl = artifactTtl;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = virtualThreads
+                ? new VirtualThreadTaskExecutor("report-job-").getVirtualThreadFactory()
+                : runnable -> {
+                    Thread thread = new Thread(runnable, "report-job-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                };
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public ReportJobResponse submit(Long reportId, Optional<Long> surveyId, Principal principal) {
+        ReportType reportType = excelReportService.resolveReportType(reportId, surveyId);
+        User user = userService.getUserFromPrincipal(principal);
+        String dedupKey = reportType.getId() + ":" + surveyId.map(String::valueOf).orElse("-") + ":" + user.getId();
+
+        String jobId = inFlightJobs.compute(dedupKey, (key, existingJobId) -> {
+            if (existingJobId != null) {
+                return existingJobId;
+            }
+            ReportJob job = ReportJob.queued(UUID.randomUUID().toString(), reportType, surveyId, user.getId(), key);
+            jobs.put(job.id(), job);
+            try {
+                executor.execute(() -> run(job));
+            } catch (RejectedExecutionException e) {
+                jobs.remove(job.id());
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Demasiados informes en proceso, inténtalo más tarde.", e);
+            }
+            return job.id();
+        });
+        return toResponse(jobs.get(jobId));
+    }
+
+    public ReportJobResponse getStatus(String jobId, Principal principal) {
+        return toResponse(findOwnedJob(jobId, principal));
+    }
+
+    public ResponseEntity<Resource> download(String jobId, Principal principal) {
+        ReportJob job = findOwnedJob(jobId, principal);
+        if (job.status() != ReportJobStatus.COMPLETED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "El informe aún no está disponible.");
+        }
+        Path artifact = artifactPath(job.id());
+        if (!Files.exists(artifact)) {
+            throw new ResponseStatusException(HttpStatus.GONE, "El informe ha expirado.");
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentDispositionFormData("attachment", job.reportType().getFileName());
+        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+
+        return ResponseEntity
+                .ok()
+                .headers(headers)
+                .body(new FileSystemResource(artifact));
+    }
+
+    @Scheduled(fixedDelayString = "${application.reports.jobs.cleanup-interval}")
+    public void cleanupExpiredArtifacts() {
+        LocalDateTime jobThreshold = LocalDateTime.now().minus(artifactTtl);
+        jobs.values().removeIf(job -> job.completedAt() != null && job.completedAt().isBefore(jobThreshold));
+
+        Instant fileThreshold = Instant.now().minus(artifactTtl);
+        try (Stream<Path> files = Files.list(storageDirectory)) {
+            files.filter(file -> isExpired(file, fileThreshold))
+                    .filter(file -> !jobs.containsKey(jobIdFromPath(file)))
+                    .forEach(this::deleteQuietly);
+        } catch (IOException e) {
+            log.warn("No se pudo limpiar el directorio de informes {}", storageDirectory, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(ReportJob job) {
+        jobs.put(job.id(), job.withStatus(ReportJobStatus.RUNNING, null));
+        Path partial = storageDirectory.resolve(job.id() + ".part");
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(partial)) {
+                excelReportService.writeReport(job.reportType(), job.surveyId(), job.userId(), outputStream);
+            }
+            Files.move(partial, artifactPath(job.id()), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            jobs.put(job.id(), job.withStatus(ReportJobStatus.COMPLETED, null));
+        } catch (Exception e) {
+            log.error("Error generando el informe {} del trabajo {}", job.reportType(), job.id(), e);
+            deleteQuietly(partial);
+            jobs.put(job.id(), job.withStatus(ReportJobStatus.FAILED, e.getMessage()));
+        } finally {
+            inFlightJobs.remove(job.dedupKey(), job.id());
+        }
+    }
+
+    private ReportJob findOwnedJob(String jobId, Principal principal) {
+        ReportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Trabajo de informe no encontrado: " + jobId);
+        }
+        User user = userService.getUserFromPrincipal(principal);
+        if (!job.userId().equals(user.getId())) {
+            throw new UnauthorizedException("No tienes permiso para acceder a este informe.");
+        }
+        return job;
+    }
+
+    private Path artifactPath(String jobId) {
+        return storageDirectory.resolve(jobId + ".xlsx");
+    }
+
+    private String jobIdFromPath(Path file) {
+        String fileName = file.getFileName().toString();
+        int dotIndex = fileName.indexOf('.');
+        return dotIndex == -1 ? fileName : fileName.substring(0, dotIndex);
+    }
+
+    private boolean isExpired(Path file, Instant threshold) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(threshold);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("No se pudo eliminar el archivo de informe {}", file, e);
+        }
+    }
+
+    private ReportJobResponse toResponse(ReportJob job) {
+        return new ReportJobResponse(
+                job.id(),
+                (long) job.reportType().getId(),
+                job.surveyId().orElse(null),
+                job.status(),
+                job.reportType().getFileName(),
+                job.createdAt(),
+                job.completedAt(),
+                job.error()
+        );
+    }
+
+    private record ReportJob(
+            String id,
+            ReportType reportType,
+            Optional<Long> surveyId,
+            Long userId,
+            String dedupKey,
+            ReportJobStatus status,
+            LocalDateTime createdAt,
+            LocalDateTime completedAt,
+            String error
+    ) {
+        static ReportJob queued(String id, ReportType reportType, Optional<Long> surveyId, Long userId, String dedupKey) {
+            return new ReportJob(id, reportType, surveyId, userId, dedupKey, ReportJobStatus.QUEUED, LocalDateTime.now(), null, null);
+        }
+
+        ReportJob withStatus(ReportJobStatus newStatus, String newError) {
+            boolean finished = newStatus == ReportJobStatus.COMPLETED || newStatus == ReportJobStatus.FAILED;
+            return new ReportJob(id, reportType, surveyId, userId, dedupKey, newStatus, createdAt, finished ? LocalDateTime.now() : null, newError);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.yourcompany.surveys.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourcompany.surveys.dto.answer.AnswerRequestDTO;
+import com.yourcompany.surveys.dto.answer.AnswerSubmission;
+import com.yourcompany.surveys.entity.Answer;
+import com.yourcompany.surveys.entity.Participation;
+import com.yourcompany.surveys.entity.Survey;
+import com.yourcompany.surveys.entity.User;
+import com.yourcompany.surveys.mapper.AnswerMapper;
+import com.yourcompany.surveys.repository.AnswerRepository;
+import com.yourcompany.surveys.repository.ParticipationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Service
+public class SubmissionBufferService {
+    private final ParticipationRepository participationRepository;
+    private final AnswerRepository answerRepository;
+    private final AnswerMapper answerMapper;
+    private final AnswerTallyService answerTallyService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final Path journalPath;
+    private final Path deadLetterPath;
+    private final DataSize journalSize;
+    private final int batchSize;
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    private SubmissionJournal journal;
+
+    public SubmissionBufferService(
+            ParticipationRepository participationRepository,
+            AnswerRepository answerRepository,
+            AnswerMapper answerMapper,
+            AnswerTallyService answerTallyService,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${application.submissions.write-behind.enabled}") boolean enabled,
+            @Value("${application.submissions.write-behind.journal-path}") Path journalPath,
+            @Value("${application.submissions.write-behind.dead-letter-path}") Path deadLetterPath,
+            @Value("${application.submissions.write-behind.journal-size}") DataSize journalSize,
+            @Value("${application.submissions.write-behind.batch-size}") int batchSize
+    ) {
+        this.participationRepository = participationRepository;
+        this.answerRepository = answerRepository;
+        this.answerMapper = answerMapper;
+        this.answerTallyService = answerTallyService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.journalPath = journalPath;
+        this.deadLetterPath = deadLetterPath;
+        this.journalSize = journalSize;
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    public void openJournal() throws IOException {
+        if (enabled) {
+            journal = new SubmissionJournal(journalPath, Math.toIntExact(journalSize.toBytes()));
+            if (!journal.isEmpty()) {
+                log.info("Reproduciendo envíos pendientes del diario {}", journalPath);
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return journal != null;
+    }
+
+    public boolean append(AnswerSubmission submission) {
+        try {
+            return journal.append(objectMapper.writeValueAsBytes(submission));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${application.submissions.write-behind.drain-interval}")
+    public void drain() {
+        if (journal == null) {
+            return;
+        }
+        drainLock.lock();
+        try {
+            SubmissionJournal.Batch batch = journal.read(batchSize);
+            while (!batch.isEmpty()) {
+                int handled = flush(batch.records());
+                journal.commit(batch, handled);
+                if (handled < batch.size()) {
+                    return;
+                }
+                batch = journal.read(batchSize);
+            }
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void closeJournal() throws IOException {
+        if (journal != null) {
+            drain();
+            journal.close();
+        }
+    }
+
+    /**
+     * Persists the records in journal order and returns how many of them, from the start, were either stored
+     * or dead-lettered; the drain only commits that prefix, so nothing is dead-lettered twice on a retry.
+     */
+    private int flush(List<byte[]> records) {
+        List<AnswerSubmission> submissions = new ArrayList<>(records.size());
+        for (byte[] record : records) {
+            submissions.add(parse(record));
+        }
+        List<AnswerSubmission> readable = submissions.stream().filter(Objects::nonNull).toList();
+        try {
+            if (!readable.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> persist(readable));
+            }
+            for (int i = 0; i < records.size(); i++) {
+                if (submissions.get(i) == null && !deadLetter(records.get(i))) {
+                    return i;
+                }
+            }
+            return records.size();
+        } catch (RuntimeException batchError) {
+            log.warn("Error al volcar un lote de {} envíos, se reintenta uno a uno", readable.size(), batchError);
+        }
+        for (int i = 0; i < records.size(); i++) {
+            AnswerSubmission submission = submissions.get(i);
+            if (submission == null) {
+                if (!deadLetter(records.get(i))) {
+                    return i;
+                }
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(List.of(submission)));
+            } catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    log.warn("Base de datos no disponible, se reintentará el volcado", e);
+                    return i;
+                }
+                log.error("Envío {} rechazado, se aparta en {}: {}", submission.submissionKey(), deadLetterPath, e.getMessage(), e);
+                if (!deadLetter(records.get(i))) {
+                    return i;
+                }
+            }
+        }
+        return records.size();
+    }
+
+    private AnswerSubmission parse(byte[] record) {
+        try {
+            return objectMapper.readValue(record, AnswerSubmission.class);
+        } catch (IOException e) {
+            log.error("Envío ilegible en el diario, se aparta en {}", deadLetterPath, e);
+            return null;
+        }
+    }
+
+    private void persist(List<AnswerSubmission> submissions) {
+        Set<String> alreadyPersisted = new HashSet<>(participationRepository.findExistingSubmissionKeys(
+                submissions.stream().map(AnswerSubmission::submissionKey).toList()
+        ));
+
+        List<Participation> participations = new ArrayList<>();
+        List<Answer> answers = new ArrayList<>();
+        for (AnswerSubmission submission : submissions) {
+            if (!alreadyPersisted.add(submission.submissionKey())) {
+                continue;
+            }
+            User user = User.builder().id(submission.userId()).build();
+            Participation participation = Participation.builder()
+                    .user(user)
+                    .survey(Survey.builder().id(submission.surveyId()).build())
+                    .submissionKey(submission.submissionKey())
+                    .participatedDate(submission.submittedAt())
+                    .build();
+            participations.add(participation);
+            for (AnswerRequestDTO a : submission.answers()) {
+                Answer answer = answerMapper.toEntity(a, user);
+                answer.setParticipation(participation);
+                answers.add(answer);
+            }
+        }
+        participationRepository.saveAll(participations);
+        answerRepository.saveAll(answers);
+        answerTallyService.countAnswers(answers);
+    }
+
+    private boolean deadLetter(byte[] record) {
+        try {
+            Files.createDirectories(deadLetterPath.toAbsolutePath().getParent());
+            try (FileChannel channel = FileChannel.open(deadLetterPath,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer line = ByteBuffer.allocate(record.length + 1).put(record).put((byte) '\n').flip();
+                while (line.hasRemaining()) {
+                    channel.write(line);
+                }
+                channel.force(true);
+            }
+            return true;
+        } catch (IOException e) {
+            log.error("No se pudo escribir en {}, se reintentará el volcado", deadLetterPath, e);
+            return false;
+        }
+    }
+
+    private boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException || e instanceof CannotCreateTransactionException;
+    }
+}
@@ -0,0 +1,259 @@
+package com.yourcompany.surveys.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Ring of length-prefixed records in a memory-mapped file. Every record carries the epoch of the lap it was
+ * written in, and the writer bumps the epoch each time it wraps back to the start of the data region, so
+ * leftovers from earlier laps are never mistaken for live records when the end of the journal is rebuilt.
+ * <p>
+ * Appends are group-committed: writers copy their record under the ring lock and then wait for a sync that
+ * covers it, so one {@code msync} makes every record written while the previous one ran durable at once.
+ */
+public class SubmissionJournal implements Closeable {
+    private static final int EPOCH_OFFSET = 0;
+    private static final int CHECKPOINT_OFFSET = 8;
+    private static final int DATA_START = 64;
+    private static final int RECORD_HEADER_SIZE = 16;
+    private static final int WRAP_MARKER = -1;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private long readEpoch;
+    private int checkpoint;
+    private long writeEpoch;
+    private int writePosition;
+    private long appended;
+    private int syncPosition;
+    private long syncEpoch;
+    private volatile long synced;
+
+    public SubmissionJournal(Path path, int capacity) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+
+        this.readEpoch = buffer.getLong(EPOCH_OFFSET);
+        this.checkpoint = (int) buffer.getLong(CHECKPOINT_OFFSET);
+        if (readEpoch == 0 || checkpoint < DATA_START || checkpoint > capacity) {
+            readEpoch = 1;
+            checkpoint = DATA_START;
+            writeHeader();
+        }
+        scanEnd();
+        this.syncPosition = writePosition;
+        this.syncEpoch = writeEpoch;
+    }
+
+    public boolean append(byte[] payload) {
+        long sequence;
+        lock.lock();
+        try {
+            int recordSize = RECORD_HEADER_SIZE + payload.length;
+            boolean wrapped = writeEpoch != readEpoch;
+            if (wrapped || writePosition + recordSize <= buffer.capacity()) {
+                if (wrapped && writePosition + recordSize >= checkpoint) {
+                    return false;
+                }
+            } else {
+                if (DATA_START + recordSize >= checkpoint) {
+                    return false;
+                }
+                if (writePosition + RECORD_HEADER_SIZE <= buffer.capacity()) {
+                    writeHeader(writePosition, WRAP_MARKER, 0, writeEpoch);
+                }
+                writeEpoch++;
+                writePosition = DATA_START;
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            writeHeader(writePosition, payload.length, (int) crc.getValue(), writeEpoch);
+            buffer.put(writePosition + RECORD_HEADER_SIZE, payload);
+            writePosition += recordSize;
+            sequence = ++appended;
+        } finally {
+            lock.unlock();
+        }
+        awaitSync(sequence);
+        return true;
+    }
+
+    public Batch read(int maxRecords) {
+        lock.lock();
+        try {
+            List<byte[]> records = new ArrayList<>();
+            List<Integer> positions = new ArrayList<>();
+            List<Long> epochs = new ArrayList<>();
+            int position = checkpoint;
+            long epoch = readEpoch;
+            while (records.size() < maxRecords && (position != writePosition || epoch != writeEpoch)) {
+                if (position + RECORD_HEADER_SIZE > buffer.capacity() || buffer.getInt(position) == WRAP_MARKER) {
+                    position = DATA_START;
+                    epoch++;
+                    continue;
+                }
+                int length = buffer.getInt(position);
+                byte[] payload = new byte[length];
+                buffer.get(position + RECORD_HEADER_SIZE, payload);
+                records.add(payload);
+                position += RECORD_HEADER_SIZE + length;
+                positions.add(position);
+                epochs.add(epoch);
+            }
+            return new Batch(records, positions, epochs);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void commit(Batch batch, int count) {
+        if (count == 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            checkpoint = batch.positions().get(count - 1);
+            readEpoch = batch.epochs().get(count - 1);
+            writeHeader();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        return read(1).isEmpty();
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            buffer.force();
+            channel.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void awaitSync(long sequence) {
+        syncLock.lock();
+        try {
+            if (synced >= sequence) {
+                return;
+            }
+            int fromPosition = syncPosition;
+            long fromEpoch = syncEpoch;
+            int toPosition;
+            long toEpoch;
+            long target;
+            lock.lock();
+            try {
+                toPosition = writePosition;
+                toEpoch = writeEpoch;
+                target = appended;
+            } finally {
+                lock.unlock();
+            }
+            if (toEpoch == fromEpoch) {
+                force(fromPosition, toPosition);
+            } else if (toEpoch == fromEpoch + 1) {
+                force(fromPosition, buffer.capacity());
+                force(DATA_START, toPosition);
+            } else {
+                buffer.force();
+            }
+            syncPosition = toPosition;
+            syncEpoch = toEpoch;
+            synced = target;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void force(int from, int to) {
+        if (to > from) {
+            buffer.force(from, to - from);
+        }
+    }
+
+    private void writeHeader() {
+        buffer.putLong(EPOCH_OFFSET, readEpoch);
+        buffer.putLong(CHECKPOINT_OFFSET, checkpoint);
+        buffer.force(0, DATA_START);
+    }
+
+    private void writeHeader(int position, int length, int crc, long epoch) {
+        buffer.putInt(position, length);
+        buffer.putInt(position + 4, crc);
+        buffer.putLong(position + 8, epoch);
+    }
+
+    private void scanEnd() {
+        int position = checkpoint;
+        long epoch = readEpoch;
+        boolean wrappedOnce = false;
+        while (true) {
+            if (position + RECORD_HEADER_SIZE > buffer.capacity()
+                    || (buffer.getInt(position) == WRAP_MARKER && buffer.getLong(position + 8) == epoch)) {
+                if (wrappedOnce) {
+                    break;
+                }
+                wrappedOnce = true;
+                position = DATA_START;
+                epoch++;
+                continue;
+            }
+            if (!isValidRecord(position, epoch) || (wrappedOnce && position + recordSize(position) >= checkpoint)) {
+                break;
+            }
+            position += recordSize(position);
+        }
+        this.writePosition = position;
+        this.writeEpoch = epoch;
+    }
+
+    private boolean isValidRecord(int position, long epoch) {
+        int length = buffer.getInt(position);
+        if (length <= 0
+                || position + RECORD_HEADER_SIZE + length > buffer.capacity()
+                || buffer.getLong(position + 8) != epoch) {
+            return false;
+        }
+        byte[] payload = new byte[length];
+        buffer.get(position + RECORD_HEADER_SIZE, payload);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue() == buffer.getInt(position + 4);
+    }
+
+    private int recordSize(int position) {
+        return RECORD_HEADER_SIZE + buffer.getInt(position);
+    }
+
+    /**
+     * Records read from the journal, with the position and epoch just after each one so that a drain can
+     * commit the prefix it has handled.
+     */
+    public record Batch(List<byte[]> records, List<Integer> positions, List<Long> epochs) {
+        public boolean isEmpty() {
+            return records.isEmpty();
+        }
+
+        public int size() {
+            return records.size();
+        }
+    }
+}
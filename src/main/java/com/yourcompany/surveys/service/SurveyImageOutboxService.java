@@ -0,0 +1,336 @@
+package com.yourcompany.surveys.service;
+
+import com.yourcompany.surveys.entity.ImageTask;
+import com.yourcompany.surveys.entity.ImageTaskType;
+import com.yourcompany.surveys.entity.Survey;
+import com.yourcompany.surveys.handler.exception.ImageUploadException;
+import com.yourcompany.surveys.repository.ImageTaskRepository;
+import com.yourcompany.surveys.repository.SurveyRepository;
+import com.yourcompany.surveys.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class SurveyImageOutboxService {
+    private final ImageTaskRepository imageTaskRepository;
+    private final SurveyRepository surveyRepository;
+    private final UserRepository userRepository;
+    private final SurveyImageService surveyImageService;
+    private final ImageService imageService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Path stagingDirectory;
+    private final int maxUploadAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final int batchSize;
+    private final Duration orphanGracePeriod;
+    private final ThreadPoolExecutor workerExecutor;
+
+    public SurveyImageOutboxService(
+            ImageTaskRepository imageTaskRepository,
+            SurveyRepository surveyRepository,
+            UserRepository userRepository,
+            SurveyImageService surveyImageService,
+            ImageService imageService,
+            ApplicationEventPublisher eventPublisher,
+            CacheManager cacheManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${application.images.outbox.staging-directory}") Path stagingDirectory,
+            @Value("${application.images.outbox.max-upload-attempts}") int maxUploadAttempts,
+            @Value("${application.images.outbox.initial-backoff}") Duration initialBackoff,
+            @Value("${application.images.outbox.max-backoff}") Duration maxBackoff,
+            @Value("${application.images.outbox.lease}") Duration lease,
+            @Value("${application.images.outbox.batch-size}") int batchSize,
+            @Value("${application.images.outbox.worker-pool-size}") int workerPoolSize,
+            @Value("${application.images.outbox.worker-queue-capacity}") int workerQueueCapacity,
+            @Value("${application.images.outbox.orphan-grace-period}") Duration orphanGracePeriod
+    ) throws IOException {
+        this.imageTaskRepository = imageTaskRepository;
+        this.surveyRepository = surveyRepository;
+        this.userRepository = userRepository;
+        this.surveyImageService = surveyImageService;
+        this.imageService = imageService;
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.stagingDirectory = Files.createDirectories(stagingDirectory);
+        this.maxUploadAttempts = maxUploadAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+        this.batchSize = batchSize;
+        this.orphanGracePeriod = orphanGracePeriod;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workerExecutor = new ThreadPoolExecutor(
+                workerPoolSize,
+                workerPoolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workerQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-outbox-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> log.debug("Cola de tareas de imagen llena, se reintentará en el siguiente sondeo")
+        );
+    }
+
+    public void enqueueUpload(Survey survey, String username, MultipartFile picture) {
+        surveyImageService.validateSurveyPicture(picture);
+        cancelPendingUploads(survey.getId());
+
+        String extension = surveyImageService.surveyPictureExtension(picture);
+        Path stagedFile = stagingDirectory.resolve(UUID.randomUUID() + "." + extension);
+        try {
+            picture.transferTo(stagedFile);
+        } catch (IOException e) {
+            throw new ImageUploadException("Error al procesar la imagen: " + e.getMessage(), e);
+        }
+
+        ImageTask task = imageTaskRepository.save(newTask(ImageTaskType.UPLOAD_SURVEY_PICTURE)
+                .surveyId(survey.getId())
+                .username(username)
+                .stagedFile(stagedFile.toString())
+                .build());
+        eventPublisher.publishEvent(new ImageTaskQueued(task.getId()));
+    }
+
+    public void enqueueDeletion(String imageUrl) {
+        if (imageUrl == null || imageUrl.isEmpty()) {
+            return;
+        }
+        ImageTask task = imageTaskRepository.save(newTask(ImageTaskType.DELETE_IMAGE)
+                .imageUrl(imageUrl)
+                .build());
+        eventPublisher.publishEvent(new ImageTaskQueued(task.getId()));
+    }
+
+    public void cancelPendingUploads(Long surveyId) {
+        for (ImageTask task : imageTaskRepository.findBySurveyIdAndType(surveyId, ImageTaskType.UPLOAD_SURVEY_PICTURE)) {
+            enqueueDeletion(task.getImageUrl());
+            imageTaskRepository.delete(task);
+            deleteStagedFile(task);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onImageTaskQueued(ImageTaskQueued event) {
+        workerExecutor.execute(() -> process(event.taskId()));
+    }
+
+    @Scheduled(fixedDelayString = "${application.images.outbox.poll-interval}")
+    public void processDueTasks() {
+        int capacity = workerExecutor.getQueue().remainingCapacity();
+        if (capacity == 0) {
+            return;
+        }
+        imageTaskRepository.findDueTaskIds(LocalDateTime.now(), PageRequest.of(0, Math.min(batchSize, capacity)))
+                .forEach(taskId -> workerExecutor.execute(() -> process(taskId)));
+    }
+
+    @Scheduled(fixedDelayString = "${application.images.outbox.reconcile-interval}")
+    public void reconcile() {
+        reconcileStagedFiles();
+        reconcileStoredImages();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerExecutor.shutdownNow();
+    }
+
+    private void reconcileStagedFiles() {
+        Set<String> referenced = new HashSet<>(imageTaskRepository.findStagedFiles());
+        Instant threshold = Instant.now().minus(lease);
+        try (Stream<Path> files = Files.list(stagingDirectory)) {
+            files.filter(file -> !referenced.contains(file.toString()))
+                    .filter(file -> isOlderThan(file, threshold))
+                    .forEach(file -> {
+                        log.info("Eliminando imagen preparada huérfana {}", file);
+                        deleteQuietly(file);
+                    });
+        } catch (IOException e) {
+            log.warn("No se pudo revisar el directorio de imágenes preparadas {}", stagingDirectory, e);
+        }
+    }
+
+    private void reconcileStoredImages() {
+        List<String> storedImages;
+        try {
+            storedImages = imageService.listImages(Instant.now().minus(orphanGracePeriod));
+        } catch (RuntimeException e) {
+            log.warn("No se pudieron listar las imágenes almacenadas", e);
+            return;
+        }
+        if (storedImages.isEmpty()) {
+            return;
+        }
+        Set<String> referenced = new HashSet<>();
+        referenced.addAll(surveyRepository.findAllPictureUrls());
+        referenced.addAll(userRepository.findAllProfilePictureUrls());
+        referenced.addAll(imageTaskRepository.findImageUrls());
+        for (String imageUrl : storedImages) {
+            if (!referenced.contains(imageUrl)) {
+                log.info("Eliminando imagen almacenada huérfana {}", imageUrl);
+                transactionTemplate.executeWithoutResult(status -> enqueueDeletion(imageUrl));
+            }
+        }
+    }
+
+    private void process(Long taskId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status -> imageTaskRepository.claim(taskId, now, now.plus(lease)));
+        if (claimed == null || claimed == 0) {
+            return;
+        }
+        Optional<ImageTask> task = imageTaskRepository.findById(taskId);
+        if (task.isEmpty()) {
+            return;
+        }
+        try {
+            switch (task.get().getType()) {
+                case UPLOAD_SURVEY_PICTURE -> processUpload(task.get());
+                case DELETE_IMAGE -> processDeletion(task.get());
+            }
+        } catch (RuntimeException e) {
+            handleFailure(task.get(), e);
+        }
+    }
+
+    private void processUpload(ImageTask task) {
+        String imageUrl = task.getImageUrl();
+        boolean urlRecorded = imageUrl != null;
+        if (imageUrl == null) {
+            imageUrl = surveyImageService.uploadStagedSurveyPicture(Path.of(task.getStagedFile()), task.getSurveyId(), task.getUsername());
+            String uploadedUrl = imageUrl;
+            Integer updated = transactionTemplate.execute(status -> imageTaskRepository.recordUploadedUrl(task.getId(), uploadedUrl));
+            urlRecorded = updated != null && updated == 1;
+        }
+
+        String uploadedUrl = imageUrl;
+        boolean cancelledBeforeRecording = !urlRecorded;
+        transactionTemplate.executeWithoutResult(status -> {
+            if (imageTaskRepository.deleteTask(task.getId()) == 0) {
+                if (cancelledBeforeRecording) {
+                    enqueueDeletion(uploadedUrl);
+                }
+                return;
+            }
+            Optional<Survey> survey = surveyRepository.findById(task.getSurveyId());
+            if (survey.isEmpty()) {
+                enqueueDeletion(uploadedUrl);
+                return;
+            }
+            String previousUrl = survey.get().getPictureUrl();
+            if (previousUrl != null && !previousUrl.equals(uploadedUrl)) {
+                enqueueDeletion(previousUrl);
+            }
+            survey.get().setPictureUrl(uploadedUrl);
+            surveyRepository.save(survey.get());
+        });
+        evictSurvey(task.getSurveyId());
+        deleteStagedFile(task);
+    }
+
+    private void processDeletion(ImageTask task) {
+        surveyImageService.deleteSurveyPicture(task.getImageUrl());
+        transactionTemplate.executeWithoutResult(status -> imageTaskRepository.deleteTask(task.getId()));
+    }
+
+    private void handleFailure(ImageTask task, RuntimeException e) {
+        int attempts = task.getAttempts() + 1;
+        if (task.getType() == ImageTaskType.UPLOAD_SURVEY_PICTURE && attempts >= maxUploadAttempts) {
+            log.error("Se descarta la foto de la encuesta {} tras {} intentos", task.getSurveyId(), attempts, e);
+            transactionTemplate.executeWithoutResult(status -> {
+                Optional<String> uploadedUrl = imageTaskRepository.findById(task.getId()).map(ImageTask::getImageUrl);
+                if (imageTaskRepository.deleteTask(task.getId()) == 1) {
+                    uploadedUrl.ifPresent(this::enqueueDeletion);
+                }
+            });
+            deleteStagedFile(task);
+            return;
+        }
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        if (backoff.compareTo(maxBackoff) > 0) {
+            backoff = maxBackoff;
+        }
+        log.warn("Fallo en la tarea de imagen {} ({}), intento {}; reintento en {}", task.getId(), task.getType(), attempts, backoff, e);
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff);
+        String message = String.valueOf(e.getMessage());
+        String lastError = message.length() > 500 ? message.substring(0, 500) : message;
+        transactionTemplate.executeWithoutResult(status -> imageTaskRepository.recordFailure(task.getId(), nextAttemptAt, lastError));
+    }
+
+    private ImageTask.ImageTaskBuilder newTask(ImageTaskType type) {
+        LocalDateTime now = LocalDateTime.now();
+        return ImageTask.builder()
+                .type(type)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now);
+    }
+
+    private void evictSurvey(Long surveyId) {
+        Cache cache = cacheManager.getCache("surveySubmissions");
+        if (cache != null) {
+            cache.evict(surveyId);
+        }
+    }
+
+    private void deleteStagedFile(ImageTask task) {
+        if (task.getStagedFile() != null) {
+            deleteQuietly(Path.of(task.getStagedFile()));
+        }
+    }
+
+    private boolean isOlderThan(Path file, Instant threshold) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(threshold);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("No se pudo eliminar la imagen preparada {}", file, e);
+        }
+    }
+
+    public record ImageTaskQueued(Long taskId) {
+    }
+}
@@ -3,8 +3,13 @@ package com.yourcompany.surveys.service;
 import com.yourcompany.surveys.dto.survey.SurveyImageRequest;
 import com.yourcompany.surveys.handler.exception.ImageDeletionException;
 import com.yourcompany.surveys.handler.exception.ImageUploadException;
+import com.yourcompany.surveys.entity.ImageType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Path;
 
 @Service
 @RequiredArgsConstructor
@@ -15,13 +20,34 @@ public class SurveyImageService {
             SurveyImageRequest request
     ) {
         try {
-            String surveyPictureName = "survey_" + request.surveyId() + "_" + request.username() + "_" + request.imageType().getType();
+            String surveyPictureName = surveyPictureName(request.surveyId(), request.username(), request.imageType());
             return imageService.uploadImage(request.picture(), surveyPictureName);
         } catch (Exception e) {
             throw new ImageUploadException("Error al subir la foto de la encuesta: " + e.getMessage());
         }
     }
 
+    public String uploadStagedSurveyPicture(Path stagedPicture, Long surveyId, String username) {
+        try {
+            String surveyPictureName = surveyPictureName(surveyId, username, ImageType.SURVEY_PICTURE);
+            return imageService.uploadImage(new FileSystemResource(stagedPicture), surveyPictureName);
+        } catch (Exception e) {
+            throw new ImageUploadException("Error al subir la foto de la encuesta: " + e.getMessage());
+        }
+    }
+
+    public void validateSurveyPicture(MultipartFile picture) {
+        imageService.validateImage(picture);
+    }
+
+    public String surveyPictureExtension(MultipartFile picture) {
+        return imageService.fileExtension(picture);
+    }
+
+    private String surveyPictureName(Long surveyId, String username, ImageType imageType) {
+        return "survey_" + surveyId + "_" + username + "_" + imageType.getType();
+    }
+
     public boolean deleteSurveyPicture(String pictureUrl) {
         try {
             return imageService.deleteImage(pictureUrl);
@@ -0,0 +1,211 @@
+package com.yourcompany.surveys.service;
+
+import com.yourcompany.surveys.dto.survey.SurveyResultsDelta;
+import com.yourcompany.surveys.entity.User;
+import com.yourcompany.surveys.handler.exception.SurveyNotFoundException;
+import com.yourcompany.surveys.repository.SurveyRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Service
+public class SurveyResultsHub {
+    private final SurveyRepository surveyRepository;
+    private final UserService userService;
+    private final Duration emitterTimeout;
+    private final Duration heartbeatInterval;
+    private final int maxPendingKeys;
+    private final ThreadPoolExecutor sender;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    public SurveyResultsHub(
+            SurveyRepository surveyRepository,
+            UserService userService,
+            @Value("${application.results.stream.timeout}") Duration emitterTimeout,
+            @Value("${application.results.stream.heartbeat-interval}") Duration heartbeatInterval,
+            @Value("${application.results.stream.max-pending-keys}") int maxPendingKeys,
+            @Value("${application.results.stream.sender-pool-size}") int senderPoolSize,
+            @Value("${application.results.stream.sender-queue-capacity}") int senderQueueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.surveyRepository = surveyRepository;
+        this.userService = userService;
+        this.emitterTimeout = emitterTimeout;
+        this.heartbeatInterval = heartbeatInterval;
+        this.maxPendingKeys = maxPendingKeys;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = virtualThreads
+                ? new VirtualThreadTaskExecutor("results-stream-").getVirtualThreadFactory()
+                : runnable -> {
+                    Thread thread = new Thread(runnable, "results-stream-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                };
+        this.sender = new ThreadPoolExecutor(
+                senderPoolSize,
+                senderPoolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(senderQueueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public SseEmitter subscribe(Long surveyId, Principal principal) {
+        User user = userService.getUserFromPrincipal(principal);
+        if (!surveyRepository.existsByIdAndCreator(surveyId, user)) {
+            throw new SurveyNotFoundException("No se encontró la encuesta.");
+        }
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        Subscriber subscriber = new Subscriber(surveyId, emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        subscribers.computeIfAbsent(surveyId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onResultsChanged(ResultsChanged event) {
+        Set<Subscriber> targets = subscribers.get(event.surveyId());
+        if (targets != null) {
+            targets.forEach(subscriber -> subscriber.offer(event));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${application.results.stream.flush-interval}")
+    public void flush() {
+        long heartbeatThreshold = System.nanoTime() - heartbeatInterval.toNanos();
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> {
+            if (!subscriber.hasPending() && subscriber.lastSentAt > heartbeatThreshold) {
+                return;
+            }
+            if (!subscriber.sending.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(() -> send(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.sending.set(false);
+                log.debug("Cola de envío de resultados llena, se reintentará para la encuesta {}", subscriber.surveyId);
+            }
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+    }
+
+    private void send(Subscriber subscriber) {
+        try {
+            Pending pending = subscriber.drain();
+            if (pending.overflowed()) {
+                subscriber.emitter.send(SseEmitter.event().name("resync").data(""));
+            } else if (!pending.options().isEmpty() || !pending.ratings().isEmpty()) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .name("results")
+                        .data(new SurveyResultsDelta(pending.options(), pending.ratings())));
+            } else {
+                subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+            }
+            subscriber.lastSentAt = System.nanoTime();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Suscriptor de resultados desconectado de la encuesta {}", subscriber.surveyId);
+            remove(subscriber);
+        } finally {
+            subscriber.sending.set(false);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.surveyId, (id, targets) -> {
+            targets.remove(subscriber);
+            return targets.isEmpty() ? null : targets;
+        });
+    }
+
+    public record ResultsChanged(Long surveyId, Map<Long, Long> optionDeltas, Map<Long, Long> ratingDeltas) {
+    }
+
+    private record Pending(Map<Long, Long> options, Map<Long, Long> ratings, boolean overflowed) {
+    }
+
+    private class Subscriber {
+        private final Long surveyId;
+        private final SseEmitter emitter;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final ReentrantLock lock = new ReentrantLock();
+        private Map<Long, Long> options = new HashMap<>();
+        private Map<Long, Long> ratings = new HashMap<>();
+        private boolean overflowed;
+        private volatile boolean pending;
+        private volatile long lastSentAt = System.nanoTime();
+
+        Subscriber(Long surveyId, SseEmitter emitter) {
+            this.surveyId = surveyId;
+            this.emitter = emitter;
+        }
+
+        void offer(ResultsChanged event) {
+            lock.lock();
+            try {
+                if (!overflowed) {
+                    event.optionDeltas().forEach((key, delta) -> options.merge(key, delta, Long::sum));
+                    event.ratingDeltas().forEach((key, delta) -> ratings.merge(key, delta, Long::sum));
+                    if (options.size() + ratings.size() > maxPendingKeys) {
+                        options.clear();
+                        ratings.clear();
+                        overflowed = true;
+                    }
+                }
+                pending = true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean hasPending() {
+            return pending;
+        }
+
+        Pending drain() {
+            lock.lock();
+            try {
+                options.values().removeIf(delta -> delta == 0);
+                ratings.values().removeIf(delta -> delta == 0);
+                Pending drained = new Pending(options, ratings, overflowed);
+                options = new HashMap<>();
+                ratings = new HashMap<>();
+                overflowed = false;
+                pending = false;
+                return drained;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -11,13 +11,20 @@ import com.yourcompany.surveys.mapper.QuestionMapper;
 import com.yourcompany.surveys.mapper.QuestionOptionMapper;
 import com.yourcompany.surveys.mapper.SurveyMapper;
 import com.yourcompany.surveys.repository.ParticipationRepository;
+import com.yourcompany.surveys.repository.QuestionOptionTallyRepository;
+import com.yourcompany.surveys.repository.SurveyRatingHistogramRepository;
 import com.yourcompany.surveys.repository.SurveyRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.security.Principal;
@@ -35,16 +42,37 @@ public class SurveyService {
     private final QuestionOptionMapper questionOptionMapper;
     private final UserService userService;
     private final SurveyImageService surveyImageService;
+    private final SurveyImageOutboxService surveyImageOutboxService;
+    private final SurveyRatingHistogramRepository histogramRepository;
+    private final RatingCounters ratingCounters;
+    private final QuestionOptionTallyRepository tallyRepository;
+    private final PlatformTransactionManager transactionManager;
 
     public SurveyPagedResponse getAllSurveys(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Survey> surveys = surveyRepository.findAll(pageable);
+        Page<SurveyResponse> surveys = surveyRepository.findAllSurveyResponses(pageable);
         if (surveys.isEmpty()) {
             return null;
         }
         return surveyMapper.toPagedResponse(surveys);
     }
 
+    public SurveyPagedResponse getAllSurveysByCursor(String cursor, int size, boolean withTotal) {
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<SurveyResponse> surveys;
+        if (cursor.isEmpty()) {
+            surveys = surveyRepository.findFirstSurveyResponses(pageable);
+        } else {
+            SurveyCursor position = SurveyCursor.decode(cursor);
+            surveys = surveyRepository.findSurveyResponsesBefore(position.creationDate(), position.id(), pageable);
+        }
+        if (surveys.isEmpty()) {
+            return null;
+        }
+        Long total = withTotal ? surveyRepository.count() : null;
+        return surveyMapper.toKeysetPagedResponse(surveys, total);
+    }
+
     public SurveyResponse findById(Long id) {
         Optional<Survey> survey = surveyRepository.findById(id);
         if (survey.isEmpty()) {
@@ -53,8 +81,9 @@ public class SurveyService {
         return surveyMapper.toResponse(survey.get());
     }
 
+    @Cacheable(cacheNames = "surveySubmissions", key = "#id")
     public SurveySubmissionResponse findByIdForSubmission(Long id) {
-        Optional<Survey> survey = surveyRepository.findById(id);
+        Optional<Survey> survey = surveyRepository.findWithQuestionsById(id);
         if (survey.isEmpty()) {
             throw new SurveyNotFoundException("No se encontró la encuesta.");
         }
@@ -63,7 +92,7 @@ public class SurveyService {
 
     public SurveySubmissionResponse findByIdForOwner(Long id, Principal principal) {
         User user = userService.getUserFromPrincipal(principal);
-        Survey survey = surveyRepository.findByIdAndCreator(id, user);
+        Survey survey = surveyRepository.findWithQuestionsByIdAndCreator(id, user);
         if (survey == null) {
             throw new SurveyNotFoundException("No se encontró la encuesta.");
         }
@@ -84,70 +113,95 @@ public class SurveyService {
             int size
     ) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Survey> surveys = surveyRepository.findByCreatorUsername(username, pageable);
+        Page<SurveyResponse> surveys = surveyRepository.findSurveyResponsesByCreatorUsername(username, pageable);
         if (surveys.isEmpty()) {
             return null;
         }
         return surveyMapper.toPagedResponse(surveys);
     }
 
+    public SurveyPagedResponse getByUsernameWithCursor(
+            String username,
+            String cursor,
+            int size,
+            boolean withTotal
+    ) {
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<SurveyResponse> surveys;
+        if (cursor.isEmpty()) {
+            surveys = surveyRepository.findFirstSurveyResponsesByCreatorUsername(username, pageable);
+        } else {
+            SurveyCursor position = SurveyCursor.decode(cursor);
+            surveys = surveyRepository.findSurveyResponsesByCreatorUsernameBefore(username, position.creationDate(), position.id(), pageable);
+        }
+        if (surveys.isEmpty()) {
+            return null;
+        }
+        Long total = withTotal ? surveyRepository.countByCreatorUsername(username) : null;
+        return surveyMapper.toKeysetPagedResponse(surveys, total);
+    }
+
     @Transactional
     public String save(SurveyRequestDTO surveyRequest, MultipartFile picture, Principal principal) {
         User user = userService.getUserFromPrincipal(principal);
         Survey survey = surveyMapper.toEntity(surveyRequest, user);
-        processSurveyPictureIfPresent(picture, survey, user);
         Survey savedSurvey = surveyRepository.save(survey);
+        enqueueSurveyPictureIfPresent(picture, savedSurvey, user);
         return savedSurvey.getTitle();
     }
 
-    @Transactional
+    @CacheEvict(cacheNames = "surveySubmissions", key = "#surveyId")
     public String updateSurveyPicture(Long surveyId, MultipartFile newPicture, Principal principal) {
         User user = userService.getUserFromPrincipal(principal);
         Survey survey = surveyRepository.findById(surveyId)
                 .orElseThrow(() -> new SurveyNotFoundException("Encuesta no encontrada con ID: " + surveyId));
         validateSurveyOwnership(survey, user);
-        deleteExistingPictureIfPresent(survey);
-        processSurveyPictureIfPresent(newPicture, survey, user);
-        Survey surveyWithPictureModified = surveyRepository.save(survey);
-        return surveyWithPictureModified.getPictureUrl();
+        String newPictureUrl = uploadSurveyPictureIfPresent(newPicture, survey, user);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            return transactionTemplate.execute(status -> {
+                Survey current = surveyRepository.findById(surveyId)
+                        .orElseThrow(() -> new SurveyNotFoundException("Encuesta no encontrada con ID: " + surveyId));
+                surveyImageOutboxService.cancelPendingUploads(surveyId);
+                deleteExistingPictureIfPresent(current);
+                current.setPictureUrl(newPictureUrl);
+                return surveyRepository.save(current).getPictureUrl();
+            });
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status -> surveyImageOutboxService.enqueueDeletion(newPictureUrl));
+            throw e;
+        }
     }
 
-    private void processSurveyPictureIfPresent(MultipartFile newPicture, Survey survey, User user) {
-        if (newPicture != null) {
-            SurveyImageRequest imageRequest = SurveyImageRequest.builder()
-                    .picture(newPicture)
-                    .surveyId(survey.getId())
-                    .username(user.getUsername())
-                    .imageType(ImageType.SURVEY_PICTURE)
-                    .build();
-            uploadAndSetSurveyPicture(imageRequest, survey);
+    private String uploadSurveyPictureIfPresent(MultipartFile newPicture, Survey survey, User user) {
+        if (newPicture == null) {
+            return null;
         }
+        SurveyImageRequest imageRequest = SurveyImageRequest.builder()
+                .picture(newPicture)
+                .surveyId(survey.getId())
+                .username(user.getUsername())
+                .imageType(ImageType.SURVEY_PICTURE)
+                .build();
+        return surveyImageService.uploadSurveyPicture(imageRequest);
     }
 
-    private void uploadAndSetSurveyPicture(SurveyImageRequest imageRequest, Survey survey) {
-        String imageUrl = surveyImageService.uploadSurveyPicture(imageRequest);
-        survey.setPictureUrl(imageUrl);
+    private void enqueueSurveyPictureIfPresent(MultipartFile picture, Survey survey, User user) {
+        if (picture != null) {
+            surveyImageOutboxService.enqueueUpload(survey, user.getUsername(), picture);
+        }
     }
 
     private void deleteExistingPictureIfPresent(Survey survey) {
         String pictureUrl = survey.getPictureUrl();
         if (pictureUrl != null && !pictureUrl.isEmpty()) {
-            deleteExistingPicture(pictureUrl);
+            surveyImageOutboxService.enqueueDeletion(pictureUrl);
             survey.setPictureUrl(null);
         }
     }
 
-    private void deleteExistingPicture(String pictureUrl) {
-        try {
-            boolean isPictureDeleted = surveyImageService.deleteSurveyPicture(pictureUrl);
-            if (!isPictureDeleted) {
-                throw new ImageDeletionException("Error al eliminar la foto de la encuesta.");
-            }
-        } catch (Exception e) {
-            throw new ImageDeletionException("Error inesperado al eliminar la foto de la encuesta: " + e.getMessage(), e);
-        }
-    }
-
+    @Transactional
+    @CacheEvict(cacheNames = "surveySubmissions", key = "#surveyId")
     public String deleteSurveyPicture(Long surveyId, Principal principal) {
         User user = userService.getUserFromPrincipal(principal);
         Survey survey = surveyRepository.findById(surveyId)
@@ -159,8 +213,7 @@ public class SurveyService {
             throw new ImageNoContentException("La encuesta no tiene foto.");
         }
 
-        deleteExistingPicture(survey.getPictureUrl());
-        survey.setPictureUrl(null);
+        deleteExistingPictureIfPresent(survey);
         surveyRepository.save(survey);
         return "Foto de la encuesta eliminada correctamente de la encuesta ." + surveyId;
     }
@@ -172,6 +225,7 @@ public class SurveyService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = "surveySubmissions", key = "#surveyId")
     public Long update(
             Long surveyId,
             SurveyRequestDTO surveyRequest,
@@ -182,14 +236,33 @@ public class SurveyService {
         Survey existingSurvey = surveyRepository.findById(surveyId)
                 .orElseThrow(() -> new SurveyNotFoundException("Encuesta no encontrada con ID: " + surveyId));
         validateSurveyOwnership(existingSurvey, user);
+        surveyImageOutboxService.cancelPendingUploads(surveyId);
         deleteExistingPictureIfPresent(existingSurvey);
-        processSurveyPictureIfPresent(picture, existingSurvey, user);
+        enqueueSurveyPictureIfPresent(picture, existingSurvey, user);
+        Map<Long, String> previousOptions = singleChoiceOptions(existingSurvey);
         updateSurveyDetails(existingSurvey, surveyRequest);
         updateExistingQuestions(existingSurvey, surveyRequest);
-        surveyRepository.save(existingSurvey);
+        surveyRepository.saveAndFlush(existingSurvey);
+        if (!previousOptions.equals(singleChoiceOptions(existingSurvey))) {
+            tallyRepository.deleteBySurveyId(surveyId);
+            tallyRepository.rebuildForSurvey(surveyId);
+        }
         return existingSurvey.getId();
     }
 
+    /**
+     * Texts of the single-choice options keyed by option id; the tallies only need rebuilding when these change.
+     */
+    private Map<Long, String> singleChoiceOptions(Survey survey) {
+        Map<Long, String> options = new HashMap<>();
+        for (Question question : survey.getQuestions()) {
+            if (question.getType() == QuestionType.OPCION_UNICA) {
+                question.getOptions().forEach(option -> options.put(option.getId(), option.getText()));
+            }
+        }
+        return options;
+    }
+
     private void updateSurveyDetails(Survey existingSurvey, SurveyRequestDTO surveyRequest) {
         existingSurvey.setTitle(surveyRequest.title());
         existingSurvey.setDescription(surveyRequest.description());
@@ -258,10 +331,16 @@ public class SurveyService {
                 });
     }
 
+    @Transactional
+    @CacheEvict(cacheNames = "surveySubmissions", key = "#id")
     public void deleteById(Long id) {
         Survey survey = surveyRepository.findById(id)
                 .orElseThrow(() -> new SurveyNotFoundException("Encuesta no encontrada con ID: " + id));
+        surveyImageOutboxService.cancelPendingUploads(id);
         deleteExistingPictureIfPresent(survey);
+        ratingCounters.discardAfterCommit(id);
+        histogramRepository.deleteBySurveyId(id);
+        tallyRepository.deleteBySurveyId(id);
         surveyRepository.deleteById(id);
     }
 
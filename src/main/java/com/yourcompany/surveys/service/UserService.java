@@ -6,6 +6,7 @@ import com.yourcompany.surveys.handler.exception.UserNotFoundException;
 import com.yourcompany.surveys.mapper.UserMapper;
 import com.yourcompany.surveys.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
 import java.security.Principal;
@@ -24,6 +25,15 @@ public class UserService {
         );
     }
 
+    public Long getUserIdFromPrincipal(Principal principal) {
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof User user
+                && user.getId() != null) {
+            return user.getId();
+        }
+        return getUserFromPrincipal(principal).getId();
+    }
+
     public UserResponse getUserResponseFromPrincipal(Principal principal) {
         String email = principal.getName();
         User user = userRepository.findByEmail(email)
@@ -0,0 +1,104 @@
+package com.yourcompany.surveys.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load generator used to compare the default platform-thread mode with the
+ * {@code virtual-threads} profile: each simulated client sends its next request as soon as the previous
+ * response arrives, for a fixed duration, and the run reports throughput and latency percentiles.
+ * <p>
+ * Start the application twice against the same database, once normally and once built with
+ * {@code -Pvirtual-threads} and run with {@code --spring.profiles.active=virtual-threads}, then run
+ * {@code mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ * -Dexec.args="-Dload.url=<app-url>/surveys/1/results -Dload.token=<jwt> -cp %classpath
+ * com.yourcompany.surveys.load.LoadTestClient"} against each.
+ */
+public class LoadTestClient {
+
+    public static void main(String[] args) throws Exception {
+        URI uri = URI.create(System.getProperty("load.url", "http://localhost:8080/surveys/1/results"));
+        int clients = Integer.getInteger("load.clients", 2000);
+        Duration warmup = Duration.parse(System.getProperty("load.warmup", "PT15S"));
+        Duration duration = Duration.parse(System.getProperty("load.duration", "PT60S"));
+        String token = System.getProperty("load.token");
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET();
+        if (token != null) {
+            requestBuilder.header("Authorization", "Bearer " + token);
+        }
+        HttpRequest request = requestBuilder.build();
+
+        System.out.printf("Calentando %s con %d clientes durante %s%n", uri, clients, warmup);
+        run(httpClient, request, clients, warmup);
+        System.out.printf("Midiendo durante %s%n", duration);
+        Result result = run(httpClient, request, clients, duration);
+        result.print(duration);
+    }
+
+    private static Result run(HttpClient httpClient, HttpRequest request, int clients, Duration duration) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        Result result = new Result();
+        List<CompletableFuture<Void>> loops = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            loops.add(loop(httpClient, request, deadline, result));
+        }
+        CompletableFuture.allOf(loops.toArray(CompletableFuture[]::new)).join();
+        return result;
+    }
+
+    private static CompletableFuture<Void> loop(HttpClient httpClient, HttpRequest request, long deadline, Result result) {
+        if (System.nanoTime() >= deadline) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long start = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    result.record(System.nanoTime() - start, error == null && response.statusCode() < 400);
+                    return null;
+                })
+                .thenCompose(ignored -> loop(httpClient, request, deadline, result));
+    }
+
+    private static class Result {
+        private final List<Long> latencies = new ArrayList<>();
+        private final AtomicLong errors = new AtomicLong();
+
+        synchronized void record(long latencyNanos, boolean success) {
+            if (success) {
+                latencies.add(latencyNanos);
+            } else {
+                errors.incrementAndGet();
+            }
+        }
+
+        synchronized void print(Duration duration) {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            System.out.printf("Peticiones correctas: %d, errores: %d, %.1f peticiones/s%n",
+                    sorted.length, errors.get(), sorted.length / (double) duration.toSeconds());
+            if (sorted.length > 0) {
+                System.out.printf("Latencia ms  p50=%.1f  p90=%.1f  p99=%.1f  max=%.1f%n",
+                        percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                        sorted[sorted.length - 1] / 1_000_000.0);
+            }
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
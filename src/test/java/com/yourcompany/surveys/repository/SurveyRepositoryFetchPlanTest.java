@@ -0,0 +1,110 @@
+package com.yourcompany.surveys.repository;
+
+import com.yourcompany.surveys.dto.survey.SurveySubmissionResponse;
+import com.yourcompany.surveys.entity.Question;
+import com.yourcompany.surveys.entity.QuestionOption;
+import com.yourcompany.surveys.entity.QuestionType;
+import com.yourcompany.surveys.entity.Survey;
+import com.yourcompany.surveys.entity.User;
+import com.yourcompany.surveys.mapper.QuestionMapper;
+import com.yourcompany.surveys.mapper.QuestionOptionMapper;
+import com.yourcompany.surveys.mapper.SurveyMapper;
+import com.yourcompany.surveys.mapper.UserMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import({SurveyMapper.class, UserMapper.class, QuestionMapper.class, QuestionOptionMapper.class})
+class SurveyRepositoryFetchPlanTest {
+    private static final int OPTIONS_PER_QUESTION = 4;
+
+    @Autowired
+    private SurveyRepository surveyRepository;
+    @Autowired
+    private SurveyMapper surveyMapper;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User creator;
+
+    @BeforeEach
+    void createCreator() {
+        creator = entityManager.persist(User.builder()
+                .firstName("Ana")
+                .lastName("Pérez")
+                .dateOfBirth(LocalDate.of(1990, 1, 1))
+                .email("ana@example.com")
+                .username("ana")
+                .password("secret")
+                .phone(5551234)
+                .enabled(true)
+                .roles(List.of())
+                .build());
+    }
+
+    @Test
+    void submissionDefinitionLoadsInConstantStatements() {
+        Long small = createSurvey(2);
+        Long large = createSurvey(40);
+
+        long smallStatements = statementsToLoad(small);
+        long largeStatements = statementsToLoad(large);
+
+        assertThat(largeStatements).isEqualTo(smallStatements);
+        assertThat(largeStatements).isLessThanOrEqualTo(3);
+    }
+
+    private long statementsToLoad(Long surveyId) {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        SurveySubmissionResponse response = surveyMapper.toSubmissionResponse(
+                surveyRepository.findWithQuestionsById(surveyId).orElseThrow()
+        );
+
+        assertThat(response.questions()).allSatisfy(q -> assertThat(q.options()).hasSize(OPTIONS_PER_QUESTION));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Long createSurvey(int questions) {
+        Survey survey = entityManager.persist(Survey.builder()
+                .title("Encuesta de " + questions)
+                .description("Descripción")
+                .creator(creator)
+                .build());
+        for (int i = 0; i < questions; i++) {
+            Question question = entityManager.persist(Question.builder()
+                    .survey(survey)
+                    .text("Pregunta " + i)
+                    .type(QuestionType.OPCION_UNICA)
+                    .build());
+            for (int j = 0; j < OPTIONS_PER_QUESTION; j++) {
+                entityManager.persist(QuestionOption.builder()
+                        .question(question)
+                        .text("Opción " + j)
+                        .build());
+            }
+        }
+        entityManager.flush();
+        return survey.getId();
+    }
+}
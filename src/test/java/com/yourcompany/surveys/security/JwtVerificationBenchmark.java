@@ -0,0 +1,79 @@
+package com.yourcompany.surveys.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Tokens verified per second by the request filter path. {@code perClaimParse} replays the previous
+ * pipeline, which rebuilt the key and parser and verified the signature once per extracted claim;
+ * {@code singleParse} is the current one.
+ * <p>
+ * Run with {@code mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ * -Dexec.args="-cp %classpath com.yourcompany.surveys.security.JwtVerificationBenchmark"}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+    private static final String SECRET_KEY = "c2VjcmV0LWtleS1mb3ItdGhlLWp3dC12ZXJpZmljYXRpb24tYmVuY2htYXJr";
+
+    private JwtService jwtService;
+    private UserDetails user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", TimeUnit.HOURS.toMillis(1));
+        jwtService.initSigningKey();
+        user = User.withUsername("ana@example.com").password("secret").authorities("USER").build();
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean perClaimParse() {
+        String userEmail = extractClaim(token, Claims::getSubject);
+        return userEmail != null
+                && extractClaim(token, Claims::getSubject).equals(user.getUsername())
+                && !extractClaim(token, Claims::getExpiration).before(new Date());
+    }
+
+    @Benchmark
+    public boolean singleParse() {
+        return jwtService.isTokenValid(jwtService.extractAllClaims(token), user);
+    }
+
+    private static <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
+        Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        return claimsResolver.apply(claims);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,120 @@
+package com.yourcompany.surveys.service;
+
+import com.yourcompany.surveys.dto.answer.AnswerRequestDTO;
+import com.yourcompany.surveys.dto.question.QuestionResponse;
+import com.yourcompany.surveys.dto.survey.SurveySubmissionResponse;
+import com.yourcompany.surveys.entity.Question;
+import com.yourcompany.surveys.entity.QuestionType;
+import com.yourcompany.surveys.entity.Survey;
+import com.yourcompany.surveys.entity.User;
+import com.yourcompany.surveys.mapper.AnswerMapper;
+import com.yourcompany.surveys.support.JdbcRoundTrips;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.security.Principal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import({AnswerService.class, AnswerMapper.class, AnswerServiceBatchInsertTest.Config.class})
+class AnswerServiceBatchInsertTest {
+    private static final int QUESTIONS = 50;
+    private static final Principal PRINCIPAL = () -> "ana@example.com";
+
+    @Autowired
+    private AnswerService answerService;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private JdbcRoundTrips roundTrips;
+    @MockBean
+    private SubmissionBufferService submissionBufferService;
+    @MockBean
+    private AnswerTallyService answerTallyService;
+    @MockBean
+    private SurveyService surveyService;
+    @MockBean
+    private UserService userService;
+
+    private List<AnswerRequestDTO> submission;
+
+    @BeforeEach
+    void createSurvey() {
+        User user = entityManager.persist(User.builder()
+                .firstName("Ana")
+                .lastName("Pérez")
+                .dateOfBirth(LocalDate.of(1990, 1, 1))
+                .email("ana@example.com")
+                .username("ana")
+                .password("secret")
+                .phone(5551234)
+                .enabled(true)
+                .roles(List.of())
+                .build());
+        Survey survey = entityManager.persist(Survey.builder()
+                .title("Encuesta")
+                .description("Descripción")
+                .creator(user)
+                .build());
+        submission = new ArrayList<>();
+        List<QuestionResponse> questions = new ArrayList<>();
+        for (int i = 0; i < QUESTIONS; i++) {
+            Question question = entityManager.persist(Question.builder()
+                    .survey(survey)
+                    .text("Pregunta " + i)
+                    .type(QuestionType.TEXTO)
+                    .build());
+            submission.add(new AnswerRequestDTO(null, survey.getId(), question.getId(), "Respuesta " + i));
+            questions.add(new QuestionResponse(question.getId(), question.getText(), "TEXTO", null, List.of()));
+        }
+        given(surveyService.findByIdForSubmission(survey.getId())).willReturn(new SurveySubmissionResponse(
+                survey.getId(), survey.getTitle(), survey.getDescription(), null, null, questions, 0.0, 0L, null));
+        given(userService.getUserIdFromPrincipal(PRINCIPAL)).willReturn(user.getId());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void submissionIsInsertedInBatches() {
+        long batched = measure();
+
+        entityManager.getEntityManager().unwrap(Session.class).setJdbcBatchSize(1);
+        long unbatched = measure();
+
+        assertThat(unbatched).isGreaterThanOrEqualTo(QUESTIONS + 1);
+        assertThat(batched).isLessThanOrEqualTo(8);
+    }
+
+    private long measure() {
+        roundTrips.reset();
+        answerService.save(submission, PRINCIPAL);
+        entityManager.flush();
+        entityManager.clear();
+        return roundTrips.count();
+    }
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        static JdbcRoundTrips jdbcRoundTrips() {
+            return new JdbcRoundTrips();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.yourcompany.surveys.service;
+
+import com.yourcompany.surveys.dto.answer.AnswerRequestDTO;
+import com.yourcompany.surveys.dto.question.QuestionResponse;
+import com.yourcompany.surveys.dto.survey.SurveySubmissionResponse;
+import com.yourcompany.surveys.entity.Question;
+import com.yourcompany.surveys.entity.QuestionType;
+import com.yourcompany.surveys.entity.Survey;
+import com.yourcompany.surveys.entity.User;
+import com.yourcompany.surveys.mapper.AnswerMapper;
+import com.yourcompany.surveys.support.JdbcRoundTrips;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Submission latency under concurrent load with and without JDBC batching. Every statement pays a simulated
+ * 1 ms network round trip so that the in-memory database behaves like a remote MySQL server.
+ */
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import({AnswerService.class, AnswerMapper.class, AnswerServiceSubmissionLatencyTest.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AnswerServiceSubmissionLatencyTest {
+    private static final int QUESTIONS = 50;
+    private static final int CLIENTS = 8;
+    private static final int SUBMISSIONS_PER_CLIENT = 20;
+    private static final Principal PRINCIPAL = () -> "luis@example.com";
+
+    @Autowired
+    private AnswerService answerService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcRoundTrips roundTrips;
+    @MockBean
+    private SubmissionBufferService submissionBufferService;
+    @MockBean
+    private AnswerTallyService answerTallyService;
+    @MockBean
+    private SurveyService surveyService;
+    @MockBean
+    private UserService userService;
+
+    @AfterEach
+    void removeLatency() {
+        roundTrips.simulateLatency(Duration.ZERO);
+    }
+
+    @Test
+    void batchingLowersSubmissionLatencyUnderConcurrentLoad() throws Exception {
+        List<AnswerRequestDTO> submission = createSurvey();
+        roundTrips.simulateLatency(Duration.ofMillis(1));
+        submitConcurrently(submission, null);
+
+        List<Long> batched = submitConcurrently(submission, null);
+        List<Long> unbatched = submitConcurrently(submission, 1);
+
+        assertThat(percentile(batched, 50)).isLessThan(percentile(unbatched, 50));
+        assertThat(percentile(batched, 90)).isLessThan(percentile(unbatched, 90));
+    }
+
+    private List<Long> submitConcurrently(List<AnswerRequestDTO> submission, Integer jdbcBatchSize) throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            List<Future<?>> clients = new ArrayList<>();
+            for (int client = 0; client < CLIENTS; client++) {
+                clients.add(executor.submit(() -> {
+                    for (int i = 0; i < SUBMISSIONS_PER_CLIENT; i++) {
+                        long start = System.nanoTime();
+                        transactionTemplate.executeWithoutResult(status -> {
+                            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+                            answerService.save(submission, PRINCIPAL);
+                        });
+                        latencies.add(System.nanoTime() - start);
+                    }
+                }));
+            }
+            for (Future<?> client : clients) {
+                client.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return latencies;
+    }
+
+    private List<AnswerRequestDTO> createSurvey() {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            User user = User.builder()
+                    .firstName("Luis")
+                    .lastName("García")
+                    .dateOfBirth(LocalDate.of(1990, 1, 1))
+                    .email("luis@example.com")
+                    .username("luis")
+                    .password("secret")
+                    .phone(5554321)
+                    .enabled(true)
+                    .roles(List.of())
+                    .build();
+            entityManager.persist(user);
+            Survey survey = Survey.builder()
+                    .title("Encuesta")
+                    .description("Descripción")
+                    .creator(user)
+                    .build();
+            entityManager.persist(survey);
+
+            List<AnswerRequestDTO> submission = new ArrayList<>();
+            List<QuestionResponse> questions = new ArrayList<>();
+            for (int i = 0; i < QUESTIONS; i++) {
+                Question question = Question.builder()
+                        .survey(survey)
+                        .text("Pregunta " + i)
+                        .type(QuestionType.TEXTO)
+                        .build();
+                entityManager.persist(question);
+                submission.add(new AnswerRequestDTO(null, survey.getId(), question.getId(), "Respuesta " + i));
+                questions.add(new QuestionResponse(question.getId(), question.getText(), "TEXTO", null, List.of()));
+            }
+            given(surveyService.findByIdForSubmission(survey.getId())).willReturn(new SurveySubmissionResponse(
+                    survey.getId(), survey.getTitle(), survey.getDescription(), null, null, questions, 0.0, 0L, null));
+            given(userService.getUserIdFromPrincipal(PRINCIPAL)).willReturn(user.getId());
+            return submission;
+        });
+    }
+
+    private static long percentile(List<Long> values, int percentile) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get(Math.min(sorted.size() - 1, sorted.size() * percentile / 100));
+    }
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        static JdbcRoundTrips jdbcRoundTrips() {
+            return new JdbcRoundTrips();
+        }
+    }
+}
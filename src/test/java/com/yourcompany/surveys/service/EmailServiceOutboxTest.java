@@ -0,0 +1,121 @@
+package com.yourcompany.surveys.service;
+
+import com.yourcompany.surveys.entity.EmailTemplateName;
+import com.yourcompany.surveys.support.SmtpStandIn;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class EmailServiceOutboxTest {
+    private static final int MESSAGES = 120;
+    private static final int BATCH_SIZE = 50;
+    private static final Duration CONNECTION_COST = Duration.ofMillis(10);
+
+    private SmtpStandIn smtp;
+    private JavaMailSenderImpl mailSender;
+    private SpringTemplateEngine templateEngine;
+    private MeterRegistry meterRegistry;
+    private EmailService emailService;
+
+    @BeforeEach
+    void setUp() {
+        smtp = new SmtpStandIn(CONNECTION_COST);
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtp.port());
+
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+
+        meterRegistry = new SimpleMeterRegistry();
+        emailService = new EmailService(mailSender, templateEngine, meterRegistry,
+                2, 500, 3, Duration.ofSeconds(2), 1000, BATCH_SIZE, false);
+        ReflectionTestUtils.setField(emailService, "emailFrom", "no-reply@example.com");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        emailService.shutdown();
+        smtp.close();
+    }
+
+    @Test
+    void outboxSendsEachBatchOverOneConnection() {
+        for (int i = 0; i < MESSAGES; i++) {
+            emailService.sendEmail("user" + i + "@example.com", "user" + i, EmailTemplateName.ACTIVATE_ACCOUNT,
+                    "http://localhost/activate", "123456", "Activa tu cuenta");
+        }
+        await().atMost(Duration.ofSeconds(30))
+                .until(() -> meterRegistry.get("mail.outbox.size").gauge().value() == MESSAGES);
+
+        long start = System.nanoTime();
+        emailService.flush();
+        long batchedNanos = System.nanoTime() - start;
+
+        assertThat(smtp.messages()).isEqualTo(MESSAGES);
+        assertThat(smtp.connections()).isEqualTo((MESSAGES + BATCH_SIZE - 1) / BATCH_SIZE);
+
+        smtp.reset();
+        start = System.nanoTime();
+        for (int i = 0; i < MESSAGES; i++) {
+            mailSender.send(message("user" + i + "@example.com"));
+        }
+        long unbatchedNanos = System.nanoTime() - start;
+
+        assertThat(smtp.connections()).isEqualTo(MESSAGES);
+        assertThat(batchedNanos).isLessThan(unbatchedNanos);
+    }
+
+    @Test
+    void fullOutboxDiscardsMailWithoutSendingOnTheCallingThread() throws Exception {
+        emailService.shutdown();
+        meterRegistry = new SimpleMeterRegistry();
+        emailService = new EmailService(mailSender, templateEngine, meterRegistry,
+                2, 500, 3, Duration.ofSeconds(2), 5, BATCH_SIZE, false);
+        ReflectionTestUtils.setField(emailService, "emailFrom", "no-reply@example.com");
+
+        for (int i = 0; i < 20; i++) {
+            emailService.sendEmail("user" + i + "@example.com", "user" + i, EmailTemplateName.ACTIVATE_ACCOUNT,
+                    "http://localhost/activate", "123456", "Activa tu cuenta");
+        }
+        await().atMost(Duration.ofSeconds(30))
+                .until(() -> meterRegistry.get("mail.outbox.rejections").counter().count() == 15);
+
+        assertThat(meterRegistry.get("mail.outbox.size").gauge().value()).isEqualTo(5);
+        assertThat(smtp.connections()).isZero();
+
+        emailService.flush();
+        assertThat(smtp.messages()).isEqualTo(5);
+    }
+
+    private MimeMessage message(String to) {
+        try {
+            MimeMessage mimeMessage = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+            helper.setFrom("no-reply@example.com");
+            helper.setTo(to);
+            helper.setSubject("Activa tu cuenta");
+            helper.setText("<p>Hola</p>", true);
+            return mimeMessage;
+        } catch (MessagingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
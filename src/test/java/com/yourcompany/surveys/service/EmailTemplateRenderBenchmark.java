@@ -0,0 +1,65 @@
+package com.yourcompany.surveys.service;
+
+import com.yourcompany.surveys.entity.EmailTemplateName;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Activation emails rendered per second, with the template cache on and off (off is what devtools forces
+ * in local runs) and with the SpEL compiler on and off.
+ * <p>
+ * Run with {@code mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ * -Dexec.args="-cp %classpath com.yourcompany.surveys.service.EmailTemplateRenderBenchmark"}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailTemplateRenderBenchmark {
+    private static final String TEMPLATE = EmailTemplateName.ACTIVATE_ACCOUNT.getName();
+
+    @Param({"true", "false"})
+    public boolean cacheable;
+
+    @Param({"true", "false"})
+    public boolean springElCompiler;
+
+    private SpringTemplateEngine templateEngine;
+    private int sequence;
+
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setCacheable(cacheable);
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        templateEngine.setEnableSpringELCompiler(springElCompiler);
+    }
+
+    @Benchmark
+    public String renderActivationEmail() {
+        int n = sequence++;
+        Context context = new Context();
+        context.setVariable("username", "usuario" + n);
+        context.setVariable("confirmationUrl", "http://localhost:4200/activate-account");
+        context.setVariable("activationCode", String.format("%06d", n % 1_000_000));
+        return templateEngine.process(TEMPLATE, context);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EmailTemplateRenderBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
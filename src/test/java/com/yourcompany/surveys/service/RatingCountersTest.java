@@ -0,0 +1,102 @@
+package com.yourcompany.surveys.service;
+
+import com.yourcompany.surveys.dto.rating.RatingGroupResponse;
+import com.yourcompany.surveys.entity.Survey;
+import com.yourcompany.surveys.entity.User;
+import com.yourcompany.surveys.repository.SurveyRepository;
+import com.yourcompany.surveys.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import(RatingCounters.class)
+@TestPropertySource(properties = "application.ratings.in-memory-counters.enabled=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RatingCountersTest {
+    @Autowired
+    private RatingCounters ratingCounters;
+    @Autowired
+    private SurveyRepository surveyRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void rolledBackDeletionKeepsUnflushedRatings() {
+        Long surveyId = createSurvey("ana");
+        ratingCounters.ensureLoaded(surveyId);
+        transaction().executeWithoutResult(status -> ratingCounters.recordAfterCommit(surveyId, null, 4.0));
+
+        transaction().executeWithoutResult(status -> {
+            ratingCounters.discardAfterCommit(surveyId);
+            status.setRollbackOnly();
+        });
+        ratingCounters.flush();
+
+        Survey survey = surveyRepository.findById(surveyId).orElseThrow();
+        assertThat(survey.getRatingCount()).isEqualTo(1);
+        assertThat(survey.getRatingSum()).isEqualTo(4.0);
+        assertThat(ratingCounters.getRatingsGroupedByRate(surveyId))
+                .contains(new RatingGroupResponse(4L, 1L));
+    }
+
+    @Test
+    void writerFinishingAfterACommittedDeletionDoesNotRecreateCounters() {
+        Long surveyId = createSurvey("luis");
+        ratingCounters.ensureLoaded(surveyId);
+
+        transaction().executeWithoutResult(rating -> {
+            ratingCounters.recordAfterCommit(surveyId, null, 5.0);
+            transaction().executeWithoutResult(deletion -> {
+                ratingCounters.discardAfterCommit(surveyId);
+                surveyRepository.deleteById(surveyId);
+            });
+        });
+        ratingCounters.flush();
+
+        assertThat(surveyRepository.existsById(surveyId)).isFalse();
+        assertThat(ratingCounters.getRatingsGroupedByRate(surveyId)).isEqualTo(List.of());
+    }
+
+    private TransactionTemplate transaction() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate;
+    }
+
+    private Long createSurvey(String username) {
+        User creator = userRepository.save(User.builder()
+                .firstName(username)
+                .lastName("Test")
+                .dateOfBirth(LocalDate.of(1990, 1, 1))
+                .email(username + "@example.com")
+                .username(username)
+                .password("secret")
+                .phone(username.hashCode())
+                .enabled(true)
+                .roles(List.of())
+                .build());
+        return surveyRepository.save(Survey.builder()
+                .title("Encuesta")
+                .description("Descripción")
+                .creator(creator)
+                .build()).getId();
+    }
+}
@@ -0,0 +1,202 @@
+package com.yourcompany.surveys.service;
+
+import com.yourcompany.surveys.dto.rating.RatingGroupResponse;
+import com.yourcompany.surveys.dto.rating.RatingRequestDTO;
+import com.yourcompany.surveys.entity.Survey;
+import com.yourcompany.surveys.entity.User;
+import com.yourcompany.surveys.mapper.RatingMapper;
+import com.yourcompany.surveys.repository.SurveyRepository;
+import com.yourcompany.surveys.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.Principal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import({RatingService.class, RatingMapper.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RatingServiceConcurrencyTest {
+    private static final int THREADS = 16;
+    private static final int UPDATES_PER_THREAD = 25;
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private RatingService ratingService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private SurveyRepository surveyRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @MockBean
+    private RatingCounters ratingCounters;
+
+    @Test
+    void concurrentUpdatesBySameUserKeepTotalsConsistent() throws Exception {
+        User creator = createUser();
+        User rater = createUser();
+        Long surveyId = createSurvey(creator);
+        ratingService.createOrUpdateRating(new RatingRequestDTO(null, 3.0, surveyId), principal(rater));
+
+        runConcurrently(THREADS, thread -> {
+            for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                ratingService.createOrUpdateRating(new RatingRequestDTO(null, randomRating(), surveyId), principal(rater));
+            }
+        });
+
+        assertTotalsMatchRatings(surveyId);
+        assertThat(countRatings(surveyId)).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentRatingsByManyUsersKeepTotalsConsistent() throws Exception {
+        User creator = createUser();
+        Long surveyId = createSurvey(creator);
+        List<User> raters = new ArrayList<>();
+        for (int i = 0; i < THREADS * 4; i++) {
+            raters.add(createUser());
+        }
+
+        runConcurrently(THREADS, thread -> {
+            for (int i = thread; i < raters.size(); i += THREADS) {
+                Principal principal = principal(raters.get(i));
+                ratingService.createOrUpdateRating(new RatingRequestDTO(null, randomRating(), surveyId), principal);
+                ratingService.createOrUpdateRating(new RatingRequestDTO(null, randomRating(), surveyId), principal);
+            }
+        });
+
+        assertTotalsMatchRatings(surveyId);
+        assertThat(countRatings(surveyId)).isEqualTo(raters.size());
+    }
+
+    @Test
+    void surveyEditsDuringRatingsDoNotOverwriteTotals() throws Exception {
+        User creator = createUser();
+        Long surveyId = createSurvey(creator);
+        List<User> raters = new ArrayList<>();
+        for (int i = 0; i < THREADS * 4; i++) {
+            raters.add(createUser());
+        }
+
+        runConcurrently(THREADS, thread -> {
+            if (thread == 0) {
+                for (int i = 0; i < UPDATES_PER_THREAD * 4; i++) {
+                    Survey survey = surveyRepository.findById(surveyId).orElseThrow();
+                    survey.setTitle("Encuesta " + i);
+                    surveyRepository.saveAndFlush(survey);
+                }
+                return;
+            }
+            for (int i = thread; i < raters.size(); i += THREADS - 1) {
+                ratingService.createOrUpdateRating(new RatingRequestDTO(null, randomRating(), surveyId), principal(raters.get(i)));
+            }
+        });
+
+        assertTotalsMatchRatings(surveyId);
+    }
+
+    private void assertTotalsMatchRatings(Long surveyId) {
+        Map<String, Object> aggregates = jdbcTemplate.queryForMap(
+                "SELECT COALESCE(SUM(rating), 0) AS total, COUNT(*) AS ratings FROM ratings WHERE survey_id = ?", surveyId);
+        Survey survey = surveyRepository.findById(surveyId).orElseThrow();
+        assertThat(survey.getRatingSum()).isEqualTo(((Number) aggregates.get("total")).doubleValue());
+        assertThat(survey.getRatingCount()).isEqualTo(((Number) aggregates.get("ratings")).longValue());
+
+        Map<Long, Long> expectedHistogram = jdbcTemplate.queryForList(
+                "SELECT FLOOR(rating) AS stars, COUNT(*) AS ratings FROM ratings WHERE survey_id = ? GROUP BY FLOOR(rating)",
+                surveyId
+        ).stream().collect(Collectors.toMap(
+                row -> ((Number) row.get("stars")).longValue(),
+                row -> ((Number) row.get("ratings")).longValue()
+        ));
+        Map<Long, Long> histogram = ratingService.getRatingsGroupedByRate(surveyId).stream()
+                .filter(group -> group.count() > 0)
+                .collect(Collectors.toMap(RatingGroupResponse::rating, RatingGroupResponse::count));
+        assertThat(histogram).isEqualTo(expectedHistogram);
+    }
+
+    private long countRatings(Long surveyId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ratings WHERE survey_id = ?", Long.class, surveyId);
+    }
+
+    private void runConcurrently(int threads, ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                int index = thread;
+                futures.add(executor.submit((Callable<Void>) () -> {
+                    task.run(index);
+                    return null;
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private User createUser() {
+        int n = SEQUENCE.incrementAndGet();
+        return userRepository.save(User.builder()
+                .firstName("Usuario")
+                .lastName(String.valueOf(n))
+                .dateOfBirth(LocalDate.of(1990, 1, 1))
+                .email("usuario" + n + "@example.com")
+                .username("usuario" + n)
+                .password("secret")
+                .phone(5550000 + n)
+                .enabled(true)
+                .roles(List.of())
+                .build());
+    }
+
+    private Long createSurvey(User creator) {
+        return surveyRepository.save(Survey.builder()
+                .title("Encuesta")
+                .description("Descripción")
+                .creator(creator)
+                .build()).getId();
+    }
+
+    private static Principal principal(User user) {
+        String email = user.getEmail();
+        return () -> email;
+    }
+
+    private static double randomRating() {
+        return ThreadLocalRandom.current().nextInt(1, 6);
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread) throws Exception;
+    }
+}
@@ -0,0 +1,107 @@
+package com.yourcompany.surveys.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SubmissionJournalTest {
+    private static final int WRITERS = 8;
+    private static final int RECORDS_PER_WRITER = 2_000;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void concurrentAppendsOnAWrappingRingAreDrainedInOrderWithoutLoss() throws Exception {
+        Path path = directory.resolve("submissions.journal");
+        Map<Integer, Integer> nextByWriter = new HashMap<>();
+        AtomicBoolean writing = new AtomicBoolean(true);
+
+        try (SubmissionJournal journal = new SubmissionJournal(path, 16 * 1024)) {
+            ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+            try {
+                List<Future<?>> writers = new ArrayList<>();
+                for (int writer = 0; writer < WRITERS; writer++) {
+                    int id = writer;
+                    writers.add(executor.submit(() -> {
+                        for (int i = 0; i < RECORDS_PER_WRITER; i++) {
+                            while (!journal.append(payload(id, i))) {
+                                Thread.onSpinWait();
+                            }
+                        }
+                    }));
+                }
+                Future<?> completion = executor.submit(() -> {
+                    for (Future<?> future : writers) {
+                        future.get(2, TimeUnit.MINUTES);
+                    }
+                    writing.set(false);
+                    return null;
+                });
+
+                while (writing.get() || !journal.isEmpty()) {
+                    SubmissionJournal.Batch batch = journal.read(64);
+                    for (byte[] record : batch.records()) {
+                        String[] parts = new String(record, StandardCharsets.UTF_8).split(":");
+                        int writer = Integer.parseInt(parts[0]);
+                        int sequence = Integer.parseInt(parts[1]);
+                        assertThat(sequence).isEqualTo(nextByWriter.getOrDefault(writer, 0));
+                        nextByWriter.put(writer, sequence + 1);
+                    }
+                    journal.commit(batch, batch.size());
+                }
+                completion.get();
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        for (int writer = 0; writer < WRITERS; writer++) {
+            assertThat(nextByWriter.get(writer)).isEqualTo(RECORDS_PER_WRITER);
+        }
+        try (SubmissionJournal reopened = new SubmissionJournal(path, 16 * 1024)) {
+            assertThat(reopened.isEmpty()).isTrue();
+        }
+    }
+
+    @Test
+    void reopeningResumesAfterTheCommittedPrefix() throws Exception {
+        Path path = directory.resolve("submissions.journal");
+        try (SubmissionJournal journal = new SubmissionJournal(path, 4096)) {
+            for (int i = 0; i < 5; i++) {
+                assertThat(journal.append(payload(0, i))).isTrue();
+            }
+            SubmissionJournal.Batch batch = journal.read(10);
+            assertThat(batch.size()).isEqualTo(5);
+            journal.commit(batch, 2);
+        }
+
+        try (SubmissionJournal reopened = new SubmissionJournal(path, 4096)) {
+            List<String> remaining = reopened.read(10).records().stream()
+                    .map(record -> new String(record, StandardCharsets.UTF_8))
+                    .toList();
+            assertThat(remaining).containsExactly(text(0, 2), text(0, 3), text(0, 4));
+        }
+    }
+
+    private static byte[] payload(int writer, int sequence) {
+        return text(writer, sequence).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(int writer, int sequence) {
+        return writer + ":" + sequence + ":" + "x".repeat(sequence % 97);
+    }
+}
@@ -0,0 +1,73 @@
+package com.yourcompany.surveys.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the statements sent to the database, one per execute call and one per executed batch, by wrapping
+ * the application {@link DataSource}. Register it with a static {@code @Bean} method. A simulated network
+ * latency can be added to each statement so that an in-memory database behaves like a remote one.
+ */
+public class JdbcRoundTrips implements BeanPostProcessor {
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch"
+    );
+
+    private final AtomicLong count = new AtomicLong();
+    private volatile long latencyNanos;
+
+    public long count() {
+        return count.get();
+    }
+
+    public void reset() {
+        count.set(0);
+    }
+
+    public void simulateLatency(Duration latency) {
+        latencyNanos = latency.toNanos();
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return wrap(dataSource, DataSource.class);
+        }
+        return bean;
+    }
+
+    private Object wrap(Object target, Class<?> type) {
+        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (target instanceof Statement && EXECUTE_METHODS.contains(method.getName())) {
+                count.incrementAndGet();
+                if (latencyNanos > 0) {
+                    TimeUnit.NANOSECONDS.sleep(latencyNanos);
+                }
+            }
+            Object result = invoke(target, method, args);
+            Class<?> returnType = method.getReturnType();
+            if (returnType == Connection.class || Statement.class.isAssignableFrom(returnType)) {
+                return wrap(result, returnType);
+            }
+            return result;
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}